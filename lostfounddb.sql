@@ -35,6 +35,8 @@ CREATE TABLE item (
     Status ENUM('Lost', 'Found') NOT NULL,
     Date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (Item_ID),
+    KEY idx_item_category_status (Category, Status),
+    KEY idx_item_status_date (Status, Date),
     FOREIGN KEY (User_ID) REFERENCES user(User_ID) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
@@ -46,6 +48,8 @@ CREATE TABLE reports (
     Report_Type ENUM('Lost', 'Found') NOT NULL,
     Report_Date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (Report_ID),
+    KEY idx_reports_user_date (User_ID, Report_Date, Report_Type, Item_ID),
+    KEY idx_reports_date_id (Report_Date, Report_ID, Report_Type, Item_ID, User_ID),
     FOREIGN KEY (User_ID) REFERENCES user(User_ID) ON DELETE CASCADE,
     FOREIGN KEY (Item_ID) REFERENCES item(Item_ID) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -77,6 +81,41 @@ CREATE TABLE found_item (
     FOREIGN KEY (Item_ID) REFERENCES item(Item_ID) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- Create Table: schema_version (migrations applied; see Migrations.java)
+CREATE TABLE schema_version (
+    Version INT NOT NULL,
+    Description VARCHAR(255) NOT NULL,
+    Applied_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    Execution_Ms BIGINT NOT NULL,
+    PRIMARY KEY (Version)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create Table: import_checkpoint (progress of bulk CSV imports)
+CREATE TABLE import_checkpoint (
+    Source VARCHAR(100) NOT NULL,
+    Records_Committed INT NOT NULL,
+    Updated_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (Source)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create Table: id_sequence (next item and report IDs; seeded after the sample data below)
+CREATE TABLE id_sequence (
+    Name VARCHAR(50) NOT NULL,
+    Next_Value BIGINT NOT NULL,
+    PRIMARY KEY (Name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Create Table: change_log (row-level change feed for open tables and search indexes)
+CREATE TABLE change_log (
+    Seq BIGINT NOT NULL AUTO_INCREMENT,
+    Entity VARCHAR(20) NOT NULL,
+    Entity_ID INT NOT NULL,
+    Operation CHAR(1) NOT NULL,
+    Changed_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (Seq),
+    KEY idx_change_log_changed_at (Changed_At)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- Insert Users (5 Admins, 5 Non-Admins)
 INSERT INTO user (User_ID, Name, Email, Password, Role, Contact)
 VALUES
@@ -202,6 +241,22 @@ VALUES
     (39, 'Cafe', '2025-04-07', 'Bookstore', 'Dog-eared', 'images/found/book.jpg'),
     (40, 'Gym', '2025-04-06', 'Front Desk', 'No case', 'images/found/headphones.jpg');
 
+-- Seed ID sequences past the sample data
+INSERT INTO id_sequence (Name, Next_Value)
+SELECT 'item', COALESCE(MAX(Item_ID), 0) + 1 FROM item;
+INSERT INTO id_sequence (Name, Next_Value)
+SELECT 'reports', COALESCE(MAX(Report_ID), 0) + 1 FROM reports;
+
+-- Record the schema as migrated; keep in step with Migrations.java
+INSERT INTO schema_version (Version, Description, Execution_Ms)
+VALUES
+    (1, 'Secondary indexes for report and item queries', 0),
+    (2, 'FULLTEXT indexes for report search', 0),
+    (3, 'Import checkpoint table', 0),
+    (4, 'ID sequence table for item and report IDs', 0),
+    (5, 'Change log table for incremental table refresh', 0),
+    (6, 'Drop unused search indexes', 0);
+
 -- Dump Users with All Details
 SELECT 
     u.User_ID, 
@@ -1,9 +1,14 @@
 package com.lostfound.app;
 
 // Main entry point for the Lost and Found System application.
+import com.lostfound.config.SchemaMigrator;
+import com.lostfound.dao.EntityCaches;
+import com.lostfound.service.QueryCache;
 import com.lostfound.ui.LoginUI;
+import java.sql.SQLException;
 import java.util.logging.Logger;
 import java.util.logging.Level;
+import javax.swing.JOptionPane;
 
 public class LostandFoundSystem {
     // Logger for capturing application errors.
@@ -11,6 +16,24 @@ public class LostandFoundSystem {
 
     // Launches the application by displaying the LoginUI.
     public static void main(String[] args) {
+        // Pass -Dlostfound.db.migrateOnStartup=false to run SchemaMigrator by hand instead.
+        if (Boolean.parseBoolean(System.getProperty("lostfound.db.migrateOnStartup", "true"))) {
+            try {
+                new SchemaMigrator().migrate();
+            } catch (SQLException e) {
+                // Writes depend on the migrated tables (id_sequence, change_log), so the app cannot run without them.
+                LOGGER.log(Level.SEVERE, "Schema migration failed, exiting", e);
+                JOptionPane.showMessageDialog(null,
+                        "The database schema could not be updated: " + e.getMessage()
+                                + "\nRun SchemaMigrator or recreate the database from lostfounddb.sql.",
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                System.exit(1);
+            }
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            EntityCaches.logStats();
+            LOGGER.log(Level.INFO, "{0}", QueryCache.shared());
+        }, "cache-stats"));
         javax.swing.SwingUtilities.invokeLater(() -> {
             try {
                 new LoginUI().setVisible(true);
@@ -0,0 +1,472 @@
+package com.lostfound.config;
+
+// Fixed-size JDBC connection pool with idle eviction, validation on borrow, max lifetime and leak detection.
+// Each pooled connection keeps an LRU cache of prepared statements keyed by SQL text.
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final PoolConfig config;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledEntry> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledEntry> borrowed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, PoolConfig config) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.config = config;
+        this.permits = new Semaphore(Math.max(1, config.getMaxSize()), true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0,
+                config.getHousekeepingIntervalMs(), TimeUnit.MILLISECONDS);
+        LOGGER.log(Level.INFO, "Connection pool started (minIdle: {0}, maxSize: {1}, statementCacheSize: {2})",
+                new Object[]{config.getMinIdle(), config.getMaxSize(), config.getStatementCacheSize()});
+    }
+
+    // Borrows a connection, waiting at most connectionTimeoutMs before failing.
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(config.getConnectionTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Timed out after " + config.getConnectionTimeoutMs()
+                        + "ms waiting for a database connection (active: " + getActiveCount()
+                        + ", idle: " + getIdleCount() + ", max: " + config.getMaxSize() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledEntry entry;
+            while ((entry = idle.pollFirst()) != null) {
+                if (isExpired(entry, System.currentTimeMillis()) || !validate(entry)) {
+                    closePhysical(entry);
+                    continue;
+                }
+                break;
+            }
+            if (entry == null) {
+                entry = openPhysical();
+            }
+            entry.borrowedAt = System.currentTimeMillis();
+            entry.borrowSite = config.getLeakDetectionThresholdMs() > 0
+                    ? new Throwable("Connection borrowed by thread " + Thread.currentThread().getName())
+                    : null;
+            entry.leakReported = false;
+            borrowed.add(entry);
+            return entry.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return borrowed.size();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    public int getPendingCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            closePhysical(entry);
+        }
+        LOGGER.log(Level.INFO, "Connection pool closed ({0} connections still borrowed, statement cache hits: {1}, misses: {2}, evictions: {3})",
+                new Object[]{borrowed.size(), statementCacheHits.get(), statementCacheMisses.get(), statementCacheEvictions.get()});
+    }
+
+    private void release(PooledEntry entry) {
+        borrowed.remove(entry);
+        try {
+            boolean reusable = !closed && !isExpired(entry, System.currentTimeMillis()) && resetState(entry);
+            if (reusable) {
+                entry.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(entry);
+            } else {
+                closePhysical(entry);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Undoes per-borrow state so the next borrower gets a connection in its default configuration.
+    private boolean resetState(PooledEntry entry) {
+        try {
+            Connection physical = entry.physical;
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly()) {
+                physical.setReadOnly(false);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Discarding connection that failed to reset: {0}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean validate(PooledEntry entry) {
+        if (System.currentTimeMillis() - entry.lastUsedAt < config.getValidationIntervalMs()) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Connection validation failed: {0}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledEntry entry, long now) {
+        return config.getMaxLifetimeMs() > 0 && now - entry.createdAt >= config.getMaxLifetimeMs();
+    }
+
+    private PooledEntry openPhysical() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", user);
+        properties.setProperty("password", password);
+        if (config.isServerPreparedStatements()) {
+            properties.setProperty("useServerPrepStmts", "true");
+        }
+        if (config.isCursorFetch()) {
+            properties.setProperty("useCursorFetch", "true");
+        }
+        if (config.isRewriteBatchedStatements()) {
+            properties.setProperty("rewriteBatchedStatements", "true");
+        }
+        Connection physical = DriverManager.getConnection(url, properties);
+        totalConnections.incrementAndGet();
+        LOGGER.log(Level.FINE, "Opened new database connection (total: {0})", totalConnections.get());
+        return new PooledEntry(physical);
+    }
+
+    private void closePhysical(PooledEntry entry) {
+        totalConnections.decrementAndGet();
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing database connection: {0}", e.getMessage());
+        }
+    }
+
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            Iterator<PooledEntry> it = idle.descendingIterator();
+            while (it.hasNext()) {
+                PooledEntry entry = it.next();
+                boolean idleTooLong = config.getIdleTimeoutMs() > 0
+                        && now - entry.lastUsedAt >= config.getIdleTimeoutMs()
+                        && idle.size() > config.getMinIdle();
+                if ((idleTooLong || isExpired(entry, now)) && idle.remove(entry)) {
+                    closePhysical(entry);
+                }
+            }
+
+            long leakThreshold = config.getLeakDetectionThresholdMs();
+            if (leakThreshold > 0) {
+                for (PooledEntry entry : borrowed) {
+                    if (!entry.leakReported && entry.borrowSite != null && now - entry.borrowedAt >= leakThreshold) {
+                        entry.leakReported = true;
+                        LOGGER.log(Level.WARNING, "Possible connection leak: connection held for "
+                                + (now - entry.borrowedAt) + "ms without being returned", entry.borrowSite);
+                    }
+                }
+            }
+
+            while (!closed && idle.size() < config.getMinIdle()
+                    && totalConnections.get() < config.getMaxSize()) {
+                PooledEntry entry = openPhysical();
+                idle.offerLast(entry);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Connection pool housekeeping failed: {0}", e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unexpected error during connection pool housekeeping", e);
+        }
+    }
+
+    private class PooledEntry {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+        private final Map<String, CachedStatement> statementCache;
+
+        PooledEntry(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+            int cacheSize = config.getStatementCacheSize();
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (size() <= cacheSize) {
+                        return false;
+                    }
+                    statementCacheEvictions.incrementAndGet();
+                    eldest.getValue().evict();
+                    return true;
+                }
+            };
+        }
+
+        // Hands out a cached statement for this SQL, preparing and caching it on a miss.
+        synchronized PreparedStatement prepare(Connection handle, String sql, int autoGeneratedKeys) throws SQLException {
+            if (config.getStatementCacheSize() <= 0) {
+                return physical.prepareStatement(sql, autoGeneratedKeys);
+            }
+            String key = autoGeneratedKeys + ":" + sql;
+            CachedStatement cached = statementCache.get(key);
+            if (cached != null && !cached.inUse) {
+                statementCacheHits.incrementAndGet();
+                return cached.checkOut(handle);
+            }
+            statementCacheMisses.incrementAndGet();
+            PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+            if (cached != null) {
+                // The same SQL is already open on this connection; fall back to an uncached statement.
+                return statement;
+            }
+            cached = new CachedStatement(this, statement);
+            statementCache.put(key, cached);
+            return cached.checkOut(handle);
+        }
+
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new HandleInvocationHandler(this));
+        }
+    }
+
+    private class CachedStatement {
+        private final PooledEntry owner;
+        private final PreparedStatement physical;
+        private boolean inUse;
+        private boolean evicted;
+
+        CachedStatement(PooledEntry owner, PreparedStatement physical) {
+            this.owner = owner;
+            this.physical = physical;
+        }
+
+        PreparedStatement checkOut(Connection handle) {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new StatementInvocationHandler(this, handle));
+        }
+
+        void checkIn() {
+            synchronized (owner) {
+                inUse = false;
+                if (evicted) {
+                    closeQuietly();
+                    return;
+                }
+                try {
+                    physical.clearParameters();
+                    physical.clearBatch();
+                    physical.clearWarnings();
+                    // Back to the driver defaults, so one borrower's streaming fetch size or limits do not
+                    // carry over to the next.
+                    physical.setFetchSize(0);
+                    physical.setMaxRows(0);
+                    physical.setQueryTimeout(0);
+                } catch (SQLException e) {
+                    LOGGER.log(Level.FINE, "Dropping cached statement that failed to reset: {0}", e.getMessage());
+                    owner.statementCache.values().remove(this);
+                    closeQuietly();
+                }
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Error closing cached statement: {0}", e.getMessage());
+            }
+        }
+    }
+
+    // Routes calls on a cached statement to the physical statement; close() returns it to the cache.
+    private class StatementInvocationHandler implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection handle;
+        private boolean handleClosed;
+
+        StatementInvocationHandler(CachedStatement cached, Connection handle) {
+            this.cached = cached;
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        cached.checkIn();
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || cached.physical.isClosed();
+                case "getConnection":
+                    return handle;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.physical + "]";
+                default:
+                    break;
+            }
+            if (handleClosed) {
+                throw new SQLException("Statement has already been closed");
+            }
+            try {
+                return method.invoke(cached.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // Routes calls on a borrowed handle to the physical connection; close() returns it to the pool.
+    private class HandleInvocationHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean handleClosed;
+
+        HandleInvocationHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + "]";
+                default:
+                    break;
+            }
+            if (handleClosed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if ("prepareStatement".equals(method.getName()) && args.length <= 2
+                    && (args.length == 1 || method.getParameterTypes()[1] == int.class)) {
+                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                return entry.prepare((Connection) proxy, (String) args[0], autoGeneratedKeys);
+            }
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.lostfound.config;
 
-// Provides database connection for the Lost and Found System.
+// Provides pooled database connections for the Lost and Found System.
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class DBConnection {
+    private static final Logger LOGGER = Logger.getLogger(DBConnection.class.getName());
     // Database URL for MySQL connection (replace with your MySQL connection link).
     private static final String URL = "jdbc:mysql://localhost:3306/lostfounddb";
     // Database username (replace with your MySQL username).
@@ -13,14 +15,41 @@ public class DBConnection {
     // Database password (replace with your MySQL password).
     private static final String PASSWORD = "";
 
-    // Establishes and returns a connection to the MySQL database.
-    public static Connection getConnection() {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(URL, USER, PASSWORD);
-        } catch (ClassNotFoundException | SQLException e) {
-            e.printStackTrace();
-            return null;
+    private static volatile ConnectionPool pool;
+
+    // Borrows a connection from the pool; closing it returns it to the pool.
+    public static Connection getConnection() throws SQLException {
+        return getPool().borrow();
+    }
+
+    // Returns the shared pool, creating it on first use.
+    public static ConnectionPool getPool() throws SQLException {
+        ConnectionPool current = pool;
+        if (current != null) {
+            return current;
+        }
+        synchronized (DBConnection.class) {
+            if (pool == null) {
+                try {
+                    Class.forName("com.mysql.cj.jdbc.Driver");
+                } catch (ClassNotFoundException e) {
+                    LOGGER.log(Level.SEVERE, "MySQL JDBC driver not found", e);
+                    throw new SQLException("MySQL JDBC driver not found", e);
+                }
+                pool = new ConnectionPool(URL, USER, PASSWORD, new PoolConfig());
+                Runtime.getRuntime().addShutdownHook(new Thread(DBConnection::shutdown, "db-pool-shutdown"));
+            }
+            return pool;
+        }
+    }
+
+    // Closes every idle connection and stops the pool.
+    public static void shutdown() {
+        synchronized (DBConnection.class) {
+            if (pool != null) {
+                pool.close();
+                pool = null;
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.lostfound.config;
+
+// One versioned schema change; steps run in order and must be safe to re-run after a partial failure.
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+public class Migration {
+    @FunctionalInterface
+    public interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    private final int version;
+    private final String description;
+    private final List<Step> steps;
+
+    public Migration(int version, String description, Step... steps) {
+        this.version = version;
+        this.description = description;
+        this.steps = List.of(steps);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    // Runs a plain statement; use IF [NOT] EXISTS forms so a retry does not fail.
+    public static Step sql(String statement) {
+        return conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(statement);
+            }
+        };
+    }
+
+    // MySQL has no CREATE INDEX IF NOT EXISTS, so the index is looked up in information_schema first.
+    public static Step index(String table, String name, String columns) {
+        return createIndexIfMissing(table, name, "CREATE INDEX " + name + " ON " + table + " (" + columns + ")");
+    }
+
+    public static Step fulltextIndex(String table, String name, String columns) {
+        return createIndexIfMissing(table, name,
+                "CREATE FULLTEXT INDEX " + name + " ON " + table + " (" + columns + ")");
+    }
+
+    public static Step dropIndex(String table, String name) {
+        return conn -> {
+            if (indexExists(conn, table, name)) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("DROP INDEX " + name + " ON " + table);
+                }
+            }
+        };
+    }
+
+    private static Step createIndexIfMissing(String table, String name, String ddl) {
+        return conn -> {
+            if (!indexExists(conn, table, name)) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(ddl);
+                }
+            }
+        };
+    }
+
+    static boolean indexExists(Connection conn, String table, String name) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? LIMIT 1";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            stmt.setString(2, name);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
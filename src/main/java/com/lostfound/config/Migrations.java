@@ -0,0 +1,73 @@
+package com.lostfound.config;
+
+// Every schema migration shipped with the application, in version order; never edit one that has been released.
+// lostfounddb.sql creates the schema at the latest version and records each version as applied, so a new
+// migration also goes there.
+import java.util.List;
+
+import static com.lostfound.config.Migration.dropIndex;
+import static com.lostfound.config.Migration.fulltextIndex;
+import static com.lostfound.config.Migration.index;
+import static com.lostfound.config.Migration.sql;
+
+public final class Migrations {
+    private Migrations() {
+    }
+
+    public static List<Migration> all() {
+        return List.of(
+                new Migration(1, "Secondary indexes for report and item queries",
+                        // ReportService.getReportsByUserId and the per-user summaries; covers the whole row and
+                        // supersedes the index InnoDB created for the User_ID foreign key.
+                        index("reports", "idx_reports_user_date", "User_ID, Report_Date, Report_Type, Item_ID"),
+                        // Keyset pagination on (Report_Date, Report_ID); covering for the plain report pages.
+                        index("reports", "idx_reports_date_id", "Report_Date, Report_ID, Report_Type, Item_ID, User_ID"),
+                        // Lost/found filter of the SQL searchReports; dropped by migration 6.
+                        index("reports", "idx_reports_type_date", "Report_Type, Report_Date, Report_ID"),
+                        index("item", "idx_item_category_status", "Category, Status"),
+                        index("item", "idx_item_status_date", "Status, Date")),
+                // Databases created before the FULLTEXT keys were added to lostfounddb.sql.
+                new Migration(2, "FULLTEXT indexes for report search",
+                        fulltextIndex("item", "ft_item_name", "Name"),
+                        fulltextIndex("lost_item", "ft_last_seen_location", "Last_Seen_Location"),
+                        fulltextIndex("found_item", "ft_found_location", "Found_Location")),
+                // Progress of bulk CSV imports, keyed by a hash of the file, so a failed import can resume.
+                new Migration(3, "Import checkpoint table",
+                        sql("CREATE TABLE IF NOT EXISTS import_checkpoint ("
+                                + "Source VARCHAR(100) NOT NULL, "
+                                + "Records_Committed INT NOT NULL, "
+                                + "Updated_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, "
+                                + "PRIMARY KEY (Source)"
+                                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4")),
+                // Block reservations for IdAllocator, seeded past the existing keys.
+                new Migration(4, "ID sequence table for item and report IDs",
+                        sql("CREATE TABLE IF NOT EXISTS id_sequence ("
+                                + "Name VARCHAR(50) NOT NULL, "
+                                + "Next_Value BIGINT NOT NULL, "
+                                + "PRIMARY KEY (Name)"
+                                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4"),
+                        sql("INSERT IGNORE INTO id_sequence (Name, Next_Value) "
+                                + "SELECT 'item', COALESCE(MAX(Item_ID), 0) + 1 FROM item"),
+                        sql("INSERT IGNORE INTO id_sequence (Name, Next_Value) "
+                                + "SELECT 'reports', COALESCE(MAX(Report_ID), 0) + 1 FROM reports")),
+                // Row-level change feed read by ChangeLogPoller; old rows are pruned by the poller.
+                new Migration(5, "Change log table for incremental table refresh",
+                        sql("CREATE TABLE IF NOT EXISTS change_log ("
+                                + "Seq BIGINT NOT NULL AUTO_INCREMENT, "
+                                + "Entity VARCHAR(20) NOT NULL, "
+                                + "Entity_ID INT NOT NULL, "
+                                + "Operation CHAR(1) NOT NULL, "
+                                + "Changed_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+                                + "PRIMARY KEY (Seq), "
+                                + "KEY idx_change_log_changed_at (Changed_At)"
+                                + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4")),
+                // Search runs on the in-memory ReportSearchIndex and ReportTextIndex; nothing queries these any
+                // more, and every report, item and location write still paid to maintain them.
+                new Migration(6, "Drop unused search indexes",
+                        dropIndex("item", "ft_item_name"),
+                        dropIndex("lost_item", "ft_last_seen_location"),
+                        dropIndex("found_item", "ft_found_location"),
+                        dropIndex("reports", "idx_reports_type_date"))
+        );
+    }
+}
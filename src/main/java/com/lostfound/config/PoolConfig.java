@@ -0,0 +1,159 @@
+package com.lostfound.config;
+
+// Sizing and timing settings for the database connection pool.
+// Every value can be overridden with a -Dlostfound.db.pool.<name>=<value> system property.
+public class PoolConfig {
+    private static final String PREFIX = "lostfound.db.pool.";
+
+    private int minIdle = intProperty("minIdle", 2);
+    private int maxSize = intProperty("maxSize", 10);
+    private long connectionTimeoutMs = longProperty("connectionTimeoutMs", 5_000L);
+    private long idleTimeoutMs = longProperty("idleTimeoutMs", 300_000L);
+    private long maxLifetimeMs = longProperty("maxLifetimeMs", 1_800_000L);
+    private long leakDetectionThresholdMs = longProperty("leakDetectionThresholdMs", 30_000L);
+    private long validationIntervalMs = longProperty("validationIntervalMs", 500L);
+    private int validationTimeoutSeconds = intProperty("validationTimeoutSeconds", 2);
+    private long housekeepingIntervalMs = longProperty("housekeepingIntervalMs", 30_000L);
+    private int statementCacheSize = intProperty("statementCacheSize", 64);
+    private boolean serverPreparedStatements = booleanProperty("serverPreparedStatements", true);
+    // Lets a positive Statement fetch size read through a server-side cursor instead of buffering every row.
+    private boolean cursorFetch = booleanProperty("cursorFetch", true);
+    // Lets the driver collapse an INSERT batch into multi-row INSERTs.
+    private boolean rewriteBatchedStatements = booleanProperty("rewriteBatchedStatements", true);
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public long getIdleTimeoutMs() {
+        return idleTimeoutMs;
+    }
+
+    public void setIdleTimeoutMs(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public long getMaxLifetimeMs() {
+        return maxLifetimeMs;
+    }
+
+    public void setMaxLifetimeMs(long maxLifetimeMs) {
+        this.maxLifetimeMs = maxLifetimeMs;
+    }
+
+    public long getLeakDetectionThresholdMs() {
+        return leakDetectionThresholdMs;
+    }
+
+    public void setLeakDetectionThresholdMs(long leakDetectionThresholdMs) {
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+    }
+
+    public long getValidationIntervalMs() {
+        return validationIntervalMs;
+    }
+
+    public void setValidationIntervalMs(long validationIntervalMs) {
+        this.validationIntervalMs = validationIntervalMs;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public long getHousekeepingIntervalMs() {
+        return housekeepingIntervalMs;
+    }
+
+    public void setHousekeepingIntervalMs(long housekeepingIntervalMs) {
+        this.housekeepingIntervalMs = housekeepingIntervalMs;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public boolean isServerPreparedStatements() {
+        return serverPreparedStatements;
+    }
+
+    public void setServerPreparedStatements(boolean serverPreparedStatements) {
+        this.serverPreparedStatements = serverPreparedStatements;
+    }
+
+    public boolean isCursorFetch() {
+        return cursorFetch;
+    }
+
+    public void setCursorFetch(boolean cursorFetch) {
+        this.cursorFetch = cursorFetch;
+    }
+
+    public boolean isRewriteBatchedStatements() {
+        return rewriteBatchedStatements;
+    }
+
+    public void setRewriteBatchedStatements(boolean rewriteBatchedStatements) {
+        this.rewriteBatchedStatements = rewriteBatchedStatements;
+    }
+
+    static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    static long longProperty(String name, long defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    static boolean booleanProperty(String name, boolean defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+}
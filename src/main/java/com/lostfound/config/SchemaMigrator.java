@@ -0,0 +1,199 @@
+package com.lostfound.config;
+
+// Applies pending schema migrations and records each applied version in the schema_version table.
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class SchemaMigrator {
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+    private static final String LOCK_NAME = "lostfounddb.schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    // Representative hot queries; their EXPLAIN output is compared before and after migrating.
+    private static final Map<String, String> PLAN_PROBES = new LinkedHashMap<>();
+
+    static {
+        PLAN_PROBES.put("reports by user",
+                "SELECT report_id, user_id, item_id, report_type, report_date FROM reports"
+                + " WHERE user_id = 1 ORDER BY report_date DESC");
+        PLAN_PROBES.put("report page",
+                "SELECT r.report_id, r.user_id, r.item_id, r.report_type, r.report_date FROM reports r"
+                + " WHERE (r.report_date < NOW() OR (r.report_date = NOW() AND r.report_id < 1))"
+                + " ORDER BY r.report_date DESC, r.report_id DESC LIMIT 51");
+        PLAN_PROBES.put("items by category and status",
+                "SELECT Item_ID FROM item WHERE Category = 'lost' AND Status = 'Lost'");
+    }
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator() {
+        this(Migrations.all());
+    }
+
+    public SchemaMigrator(List<Migration> migrations) {
+        this.migrations = migrations;
+    }
+
+    // Applies every migration newer than the recorded version; returns how many were applied.
+    public int migrate() throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            if (!acquireLock(conn)) {
+                throw new SQLException("Timed out waiting for the schema migration lock");
+            }
+            try {
+                createVersionTable(conn);
+                int current = currentVersion(conn);
+                List<Migration> pending = new ArrayList<>();
+                for (Migration migration : migrations) {
+                    if (migration.getVersion() > current) {
+                        pending.add(migration);
+                    }
+                }
+                if (pending.isEmpty()) {
+                    LOGGER.log(Level.INFO, "Schema is up to date at version {0}", current);
+                    return 0;
+                }
+
+                Map<String, String> plansBefore = explainProbes(conn);
+                for (Migration migration : pending) {
+                    apply(conn, migration);
+                }
+                logPlanChanges(plansBefore, explainProbes(conn));
+                return pending.size();
+            } finally {
+                releaseLock(conn);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Schema migration failed: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    public int currentVersion() throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            createVersionTable(conn);
+            return currentVersion(conn);
+        }
+    }
+
+    // DDL commits implicitly in MySQL, so each step must be idempotent; the version row is written last.
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        LOGGER.log(Level.INFO, "Applying migration {0}: {1}",
+                new Object[]{migration.getVersion(), migration.getDescription()});
+        long start = System.currentTimeMillis();
+        for (Migration.Step step : migration.getSteps()) {
+            step.apply(conn);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        String sql = "INSERT INTO schema_version (Version, Description, Execution_Ms) VALUES (?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.getVersion());
+            stmt.setString(2, migration.getDescription());
+            stmt.setLong(3, elapsed);
+            stmt.executeUpdate();
+        }
+        LOGGER.log(Level.INFO, "Applied migration {0} in {1} ms", new Object[]{migration.getVersion(), elapsed});
+    }
+
+    private void createVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                    + "Version INT NOT NULL, "
+                    + "Description VARCHAR(255) NOT NULL, "
+                    + "Applied_At TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+                    + "Execution_Ms BIGINT NOT NULL, "
+                    + "PRIMARY KEY (Version)"
+                    + ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4");
+        }
+    }
+
+    private int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(Version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // Serializes migrations when several instances start against the same database.
+    private boolean acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Could not release schema migration lock: {0}", e.getMessage());
+        }
+    }
+
+    private Map<String, String> explainProbes(Connection conn) {
+        Map<String, String> plans = new LinkedHashMap<>();
+        for (Map.Entry<String, String> probe : PLAN_PROBES.entrySet()) {
+            plans.put(probe.getKey(), explain(conn, probe.getValue()));
+        }
+        return plans;
+    }
+
+    // Condenses EXPLAIN to table/access type/key/extra per row, leaving out row estimates that drift with data.
+    private String explain(Connection conn, String query) {
+        StringBuilder plan = new StringBuilder();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN " + query)) {
+            while (rs.next()) {
+                if (plan.length() > 0) {
+                    plan.append("; ");
+                }
+                plan.append(rs.getString("table"))
+                        .append(' ').append(rs.getString("type"))
+                        .append(" key=").append(rs.getString("key"));
+                String extra = rs.getString("Extra");
+                if (extra != null && !extra.isEmpty()) {
+                    plan.append(" (").append(extra).append(')');
+                }
+            }
+        } catch (SQLException e) {
+            return "unavailable: " + e.getMessage();
+        }
+        return plan.toString();
+    }
+
+    private void logPlanChanges(Map<String, String> before, Map<String, String> after) {
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String previous = before.get(entry.getKey());
+            if (!Objects.equals(previous, entry.getValue())) {
+                LOGGER.log(Level.INFO, "Query plan for {0} changed:\n  before: {1}\n  after:  {2}",
+                        new Object[]{entry.getKey(), previous, entry.getValue()});
+            }
+        }
+    }
+
+    // Runs pending migrations on demand.
+    public static void main(String[] args) {
+        try {
+            int applied = new SchemaMigrator().migrate();
+            System.out.println("Applied " + applied + " migration(s)");
+        } catch (SQLException e) {
+            System.out.println("Migration failed: " + e.getMessage());
+        } finally {
+            DBConnection.shutdown();
+        }
+    }
+}
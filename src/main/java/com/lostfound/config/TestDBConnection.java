@@ -1,17 +1,20 @@
-
 package com.lostfound.config;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 /**
  *
  * @author Kalana Denuz
  */
 public class TestDBConnection {
     public static void main(String[] args) {
-        if (DBConnection.getConnection() != null) {
+        try (Connection conn = DBConnection.getConnection()) {
             System.out.println("✅ Connection Successful");
-        } else {
-            System.out.println("❌ Connection Failed");
+        } catch (SQLException e) {
+            System.out.println("❌ Connection Failed: " + e.getMessage());
+        } finally {
+            DBConnection.shutdown();
         }
     }
 }
-
@@ -7,6 +7,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -16,44 +17,76 @@ public class AdminDAO {
     private static final Logger LOGGER = Logger.getLogger(AdminDAO.class.getName());
 
     public boolean addAdmin(Admin admin) throws SQLException {
+        return BatchWriter.inTransaction(connection -> addAdmin(connection, admin));
+    }
+
+    // One INSERT ... SELECT on the caller's connection: no row means the user does not exist,
+    // and the uk_user_id key rejects a user who is already an admin.
+    public boolean addAdmin(Connection connection, Admin admin) throws SQLException {
         LOGGER.log(Level.INFO, "Adding admin for userId: {0}", admin.getUserId());
-        String userCheckQuery = "SELECT User_ID FROM user WHERE User_ID = ?";
-        String adminCheckQuery = "SELECT User_ID FROM admin WHERE User_ID = ?";
-        String insertQuery = "INSERT INTO admin (User_ID, Admin_Role) VALUES (?, ?)";
-
-        try (Connection connection = DBConnection.getConnection()) {
-            try (PreparedStatement userCheckStmt = connection.prepareStatement(userCheckQuery)) {
-                userCheckStmt.setInt(1, admin.getUserId());
-                try (ResultSet rs = userCheckStmt.executeQuery()) {
-                    if (!rs.next()) {
-                        LOGGER.log(Level.WARNING, "User_ID {0} does not exist in user table", admin.getUserId());
-                        throw new SQLException("User_ID " + admin.getUserId() + " does not exist");
-                    }
-                }
-            }
-            try (PreparedStatement adminCheckStmt = connection.prepareStatement(adminCheckQuery)) {
-                adminCheckStmt.setInt(1, admin.getUserId());
-                try (ResultSet rs = adminCheckStmt.executeQuery()) {
-                    if (rs.next()) {
-                        LOGGER.log(Level.WARNING, "User_ID {0} already exists in admin table", admin.getUserId());
-                        throw new SQLException("User_ID " + admin.getUserId() + " already exists in admin table");
-                    }
-                }
-            }
-            try (PreparedStatement insertStmt = connection.prepareStatement(insertQuery)) {
-                insertStmt.setInt(1, admin.getUserId());
-                insertStmt.setString(2, admin.getAdminRole() != null ? admin.getAdminRole() : "Moderator");
-                int rowsAffected = insertStmt.executeUpdate();
-                LOGGER.log(Level.INFO, "Added admin for userId: {0}, rows affected: {1}",
-                        new Object[]{admin.getUserId(), rowsAffected});
-                return rowsAffected > 0;
+        String insertQuery = "INSERT INTO admin (User_ID, Admin_Role) SELECT User_ID, ? FROM user WHERE User_ID = ?";
+        try (PreparedStatement insertStmt = connection.prepareStatement(insertQuery)) {
+            insertStmt.setString(1, admin.getAdminRole() != null ? admin.getAdminRole() : "Moderator");
+            insertStmt.setInt(2, admin.getUserId());
+            int rowsAffected = insertStmt.executeUpdate();
+            if (rowsAffected == 0) {
+                LOGGER.log(Level.WARNING, "User_ID {0} does not exist in user table", admin.getUserId());
+                throw new SQLException("User_ID " + admin.getUserId() + " does not exist");
             }
+            ChangeLog.record(connection, ChangeLog.USER, admin.getUserId(), ChangeLog.Operation.UPDATE);
+            LOGGER.log(Level.INFO, "Added admin for userId: {0}, rows affected: {1}",
+                    new Object[]{admin.getUserId(), rowsAffected});
+            return true;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            LOGGER.log(Level.WARNING, "User_ID {0} already exists in admin table", admin.getUserId());
+            throw new SQLException("User_ID " + admin.getUserId() + " already exists in admin table", e);
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error adding admin for userId: {0}", admin.getUserId());
             throw e;
         }
     }
 
+    // Inserts every admin in one transaction; returns the new Admin_IDs in list order.
+    public int[] addAdmins(List<Admin> admins) throws SQLException {
+        return BatchWriter.inTransaction(conn -> addAdmins(conn, admins, BatchWriter.DEFAULT_BATCH_SIZE));
+    }
+
+    public int[] addAdmins(Connection connection, List<Admin> admins, int batchSize) throws SQLException {
+        String query = "INSERT INTO admin (User_ID, Admin_Role) VALUES (?, ?)";
+        try {
+            int[] ids = BatchWriter.insert(connection, query, admins, batchSize, (stmt, admin) -> {
+                stmt.setInt(1, admin.getUserId());
+                stmt.setString(2, admin.getAdminRole() != null ? admin.getAdminRole() : "Moderator");
+            });
+            int[] userIds = admins.stream().mapToInt(Admin::getUserId).toArray();
+            ChangeLog.record(connection, ChangeLog.USER, userIds, ChangeLog.Operation.UPDATE);
+            LOGGER.log(Level.INFO, "Added {0} admins", ids.length);
+            return ids;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error adding {0} admins: {1}", new Object[]{admins.size(), e.getMessage()});
+            throw e;
+        }
+    }
+
+    // Upsert used by role changes: creates the admin row if missing and keeps an existing row's role.
+    public void grantAdmin(Connection connection, int userId, String adminRole) throws SQLException {
+        String query = "INSERT INTO admin (User_ID, Admin_Role) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE Admin_Role = Admin_Role";
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setInt(1, userId);
+            stmt.setString(2, adminRole != null ? adminRole : "Moderator");
+            stmt.executeUpdate();
+        }
+    }
+
+    public void revokeAdmin(Connection connection, int userId) throws SQLException {
+        String query = "DELETE FROM admin WHERE User_ID = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setInt(1, userId);
+            stmt.executeUpdate();
+        }
+    }
+
     public Admin getAdminById(int adminId) throws SQLException {
         LOGGER.log(Level.INFO, "Fetching admin with adminId: {0}", adminId);
         String query = "SELECT Admin_ID, User_ID, Admin_Role FROM admin WHERE Admin_ID = ?";
@@ -107,12 +140,21 @@ public class AdminDAO {
         LOGGER.log(Level.INFO, "Updating admin with adminId: {0}", admin.getAdminId());
         String query = "UPDATE admin SET User_ID = ?, Admin_Role = ? WHERE Admin_ID = ?";
 
-        try (Connection connection = DBConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setInt(1, admin.getUserId());
-            statement.setString(2, admin.getAdminRole() != null ? admin.getAdminRole() : "Moderator");
-            statement.setInt(3, admin.getAdminId());
-            int rowsAffected = statement.executeUpdate();
+        try {
+            int rowsAffected = BatchWriter.inTransaction(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    statement.setInt(1, admin.getUserId());
+                    statement.setString(2, admin.getAdminRole() != null ? admin.getAdminRole() : "Moderator");
+                    statement.setInt(3, admin.getAdminId());
+                    // The admin row may move to another user; both users' rows change.
+                    ChangeLog.recordAdminUser(connection, admin.getAdminId());
+                    int updated = statement.executeUpdate();
+                    if (updated > 0) {
+                        ChangeLog.record(connection, ChangeLog.USER, admin.getUserId(), ChangeLog.Operation.UPDATE);
+                    }
+                    return updated;
+                }
+            });
             LOGGER.log(Level.INFO, "Updated admin with adminId: {0}, rows affected: {1}",
                     new Object[]{admin.getAdminId(), rowsAffected});
             return rowsAffected > 0;
@@ -126,10 +168,15 @@ public class AdminDAO {
         LOGGER.log(Level.INFO, "Deleting admin with adminId: {0}", adminId);
         String query = "DELETE FROM admin WHERE Admin_ID = ?";
 
-        try (Connection connection = DBConnection.getConnection();
-             PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setInt(1, adminId);
-            int rowsAffected = statement.executeUpdate();
+        try {
+            // Logged first, while the admin row still names its user; a missing row logs nothing.
+            int rowsAffected = BatchWriter.inTransaction(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    statement.setInt(1, adminId);
+                    ChangeLog.recordAdminUser(connection, adminId);
+                    return statement.executeUpdate();
+                }
+            });
             LOGGER.log(Level.INFO, "Deleted admin with adminId: {0}, rows affected: {1}",
                     new Object[]{adminId, rowsAffected});
             return rowsAffected > 0;
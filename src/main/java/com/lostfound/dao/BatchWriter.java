@@ -0,0 +1,117 @@
+package com.lostfound.dao;
+
+// Runs one prepared INSERT/UPDATE for many rows with addBatch/executeBatch on the caller's connection.
+// With rewriteBatchedStatements on (see PoolConfig) Connector/J sends each INSERT batch as one multi-row
+// INSERT, and the generated keys still come back in row order.
+import com.lostfound.config.DBConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class BatchWriter {
+    private static final Logger LOGGER = Logger.getLogger(BatchWriter.class.getName());
+    // Override with -Dlostfound.db.batchSize=<rows>.
+    public static final int DEFAULT_BATCH_SIZE = Integer.getInteger("lostfound.db.batchSize", 500);
+
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Work<R> {
+        R run(Connection conn) throws SQLException;
+    }
+
+    private BatchWriter() {
+    }
+
+    // Runs the work in one transaction on a pooled connection, for batch methods called without a connection.
+    public static <R> R inTransaction(Work<R> work) throws SQLException {
+        Connection conn = null;
+        try {
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
+            R result = work.run(conn);
+            conn.commit();
+            ChangeVersion.bump();
+            return result;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.log(Level.SEVERE, "Rollback failed", rollbackEx);
+                }
+            }
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException closeEx) {
+                    LOGGER.log(Level.SEVERE, "Error closing connection", closeEx);
+                }
+            }
+        }
+    }
+
+    // Returns the generated key of every row, in the order of rows.
+    public static <T> int[] insert(Connection conn, String sql, List<T> rows, int batchSize, Binder<? super T> binder)
+            throws SQLException {
+        int[] keys = new int[rows.size()];
+        if (rows.isEmpty()) {
+            return keys;
+        }
+        int size = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        int next = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int start = 0; start < rows.size(); start += size) {
+                int end = Math.min(start + size, rows.size());
+                for (int i = start; i < end; i++) {
+                    binder.bind(stmt, rows.get(i));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    while (rs.next() && next < end) {
+                        keys[next++] = rs.getInt(1);
+                    }
+                }
+                if (next != end) {
+                    throw new SQLException("Expected " + (end - start) + " generated keys but got " + (next - start));
+                }
+            }
+        }
+        return keys;
+    }
+
+    // For UPDATEs and for INSERTs whose keys are assigned up front (see IdAllocator). Returns the JDBC update
+    // count of every row; rewritten batches may report Statement.SUCCESS_NO_INFO.
+    public static <T> int[] update(Connection conn, String sql, List<T> rows, int batchSize, Binder<? super T> binder)
+            throws SQLException {
+        int[] counts = new int[rows.size()];
+        if (rows.isEmpty()) {
+            return counts;
+        }
+        int size = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int start = 0; start < rows.size(); start += size) {
+                int end = Math.min(start + size, rows.size());
+                for (int i = start; i < end; i++) {
+                    binder.bind(stmt, rows.get(i));
+                    stmt.addBatch();
+                }
+                int[] batch = stmt.executeBatch();
+                System.arraycopy(batch, 0, counts, start, Math.min(batch.length, end - start));
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,161 @@
+package com.lostfound.dao;
+
+// Reads and writes the change_log table: one row per inserted, updated or deleted report or user, numbered by an
+// increasing Seq, so open tables (in this and other clients) can apply just the rows that changed. Writers record
+// on the connection of the change itself, so inside a transaction the entry commits or rolls back with it.
+import com.lostfound.config.DBConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ChangeLog {
+    private static final Logger LOGGER = Logger.getLogger(ChangeLog.class.getName());
+    public static final String REPORT = "report";
+    public static final String USER = "user";
+
+    private static final String INSERT_SQL = "INSERT INTO change_log (Entity, Entity_ID, Operation) VALUES (?, ?, ?)";
+
+    public enum Operation {
+        INSERT("I"), UPDATE("U"), DELETE("D");
+
+        private final String code;
+
+        Operation(String code) {
+            this.code = code;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        static Operation fromCode(String code) {
+            for (Operation operation : values()) {
+                if (operation.code.equals(code)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown change_log operation: " + code);
+        }
+    }
+
+    public static final class Change {
+        private final long seq;
+        private final String entity;
+        private final int entityId;
+        private final Operation operation;
+
+        Change(long seq, String entity, int entityId, Operation operation) {
+            this.seq = seq;
+            this.entity = entity;
+            this.entityId = entityId;
+            this.operation = operation;
+        }
+
+        public long getSeq() {
+            return seq;
+        }
+
+        public String getEntity() {
+            return entity;
+        }
+
+        public int getEntityId() {
+            return entityId;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+    }
+
+    private ChangeLog() {
+    }
+
+    public static void record(Connection conn, String entity, int entityId, Operation operation) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+            stmt.setString(1, entity);
+            stmt.setInt(2, entityId);
+            stmt.setString(3, operation.getCode());
+            stmt.executeUpdate();
+        }
+    }
+
+    public static void record(Connection conn, String entity, int[] entityIds, Operation operation) throws SQLException {
+        List<Integer> ids = new ArrayList<>(entityIds.length);
+        for (int id : entityIds) {
+            ids.add(id);
+        }
+        BatchWriter.update(conn, INSERT_SQL, ids, BatchWriter.DEFAULT_BATCH_SIZE, (stmt, id) -> {
+            stmt.setString(1, entity);
+            stmt.setInt(2, id);
+            stmt.setString(3, operation.getCode());
+        });
+    }
+
+    // Report rows show the reporting user's name and contact, so a user update also changes their reports.
+    public static void recordReportsOfUser(Connection conn, int userId, Operation operation) throws SQLException {
+        String sql = "INSERT INTO change_log (Entity, Entity_ID, Operation) "
+                + "SELECT ?, Report_ID, ? FROM reports WHERE User_ID = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, REPORT);
+            stmt.setString(2, operation.getCode());
+            stmt.setInt(3, userId);
+            stmt.executeUpdate();
+        }
+    }
+
+    // The user of an admin row, recorded as a user update because the users table shows admin status.
+    public static void recordAdminUser(Connection conn, int adminId) throws SQLException {
+        String sql = "INSERT INTO change_log (Entity, Entity_ID, Operation) "
+                + "SELECT ?, User_ID, ? FROM admin WHERE Admin_ID = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, USER);
+            stmt.setString(2, Operation.UPDATE.getCode());
+            stmt.setInt(3, adminId);
+            stmt.executeUpdate();
+        }
+    }
+
+    public static long latestSeq() throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COALESCE(MAX(Seq), 0) FROM change_log");
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // Changes with Seq above afterSeq, oldest first.
+    public static List<Change> readSince(long afterSeq, int limit) throws SQLException {
+        String sql = "SELECT Seq, Entity, Entity_ID, Operation FROM change_log WHERE Seq > ? ORDER BY Seq LIMIT ?";
+        List<Change> changes = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setLong(1, afterSeq);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    changes.add(new Change(rs.getLong("Seq"), rs.getString("Entity"), rs.getInt("Entity_ID"),
+                            Operation.fromCode(rs.getString("Operation"))));
+                }
+            }
+        }
+        return changes;
+    }
+
+    public static int pruneOlderThanHours(int hours) throws SQLException {
+        String sql = "DELETE FROM change_log WHERE Changed_At < NOW() - INTERVAL ? HOUR";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, hours);
+            int rows = stmt.executeUpdate();
+            LOGGER.log(Level.FINE, "Pruned {0} change_log rows", rows);
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.lostfound.dao;
+
+// Global counter bumped by every write to the report, item, user and admin tables; cached query results
+// remember the version they were loaded at and are stale once it moves on. Bumped only once a write has
+// committed, by whoever owns the transaction, so a reload never caches rows from before the commit.
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ChangeVersion {
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private ChangeVersion() {
+    }
+
+    public static long current() {
+        return VERSION.get();
+    }
+
+    public static void bump() {
+        VERSION.incrementAndGet();
+    }
+}
@@ -0,0 +1,249 @@
+package com.lostfound.dao;
+
+// Bounded read-through cache for entities looked up by ID. Eviction is TinyLFU over LRU order: when full, a new
+// entry replaces the least recently used one only if it has been requested more often recently, so one-off
+// lookups cannot flush the entities screens keep asking for. Entries expire after a TTL and writers invalidate
+// the IDs they touch. Cached entities are shared, so callers must not mutate them.
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class EntityCache<K, V> {
+
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws SQLException;
+    }
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final FrequencySketch sketch;
+    // Bumped by every invalidation; a load that started before one is not cached.
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    // Concurrent misses for one key share a single load, unless an invalidation came between them.
+    private final SingleFlight<SingleFlight.VersionedKey<K>, V> flights = new SingleFlight<>();
+
+    public EntityCache(String name, int maximumSize, long ttl, TimeUnit unit) {
+        this.name = name;
+        this.maximumSize = Math.max(1, maximumSize);
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(this.maximumSize);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Returns the cached value or loads it outside the lock; null results are not cached.
+    public V get(K key, Loader<? super K, ? extends V> loader) throws SQLException {
+        long startGeneration;
+        synchronized (this) {
+            sketch.increment(key);
+            Entry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            startGeneration = generation;
+        }
+        misses.incrementAndGet();
+        return flights.execute(new SingleFlight.VersionedKey<>(key, startGeneration), () -> {
+            long start = System.nanoTime();
+            V value = loader.load(key);
+            long now = System.nanoTime();
+            loads.incrementAndGet();
+            loadNanos.addAndGet(now - start);
+            if (value != null) {
+                synchronized (this) {
+                    if (generation == startGeneration) {
+                        put(key, new Entry<>(value, now));
+                    }
+                }
+            }
+            return value;
+        });
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll(Iterable<? extends K> keys) {
+        generation++;
+        for (K key : keys) {
+            entries.remove(key);
+        }
+    }
+
+    // For writes that reach rows indirectly, such as ON DELETE CASCADE.
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(name, hits.get(), misses.get(), evictions.get(), loads.get(), loadNanos.get(),
+                flights.getCoalescedHits());
+    }
+
+    private void put(K key, Entry<V> entry) {
+        if (entries.containsKey(key) || entries.size() < maximumSize) {
+            entries.put(key, entry);
+            return;
+        }
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        Map.Entry<K, Entry<V>> victim = eldest.next();
+        boolean victimExpired = System.nanoTime() - victim.getValue().loadedAt >= ttlNanos;
+        if (!victimExpired && sketch.frequency(key) <= sketch.frequency(victim.getKey())) {
+            return;
+        }
+        eldest.remove();
+        evictions.incrementAndGet();
+        entries.put(key, entry);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    public static final class Stats {
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long loads;
+        private final long loadNanos;
+        private final long coalesced;
+
+        Stats(String name, long hits, long misses, long evictions, long loads, long loadNanos, long coalesced) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.loads = loads;
+            this.loadNanos = loadNanos;
+            this.coalesced = coalesced;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        // Misses that waited for another caller's load instead of querying.
+        public long getCoalescedHits() {
+            return coalesced;
+        }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        public double getAverageLoadMillis() {
+            return loads == 0 ? 0 : loadNanos / 1_000_000.0 / loads;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: hit rate %.1f%% (%d hits, %d misses, %d coalesced), %d evictions, avg load %.2f ms",
+                    name, getHitRate() * 100, hits, misses, coalesced, evictions, getAverageLoadMillis());
+        }
+    }
+
+    // Count-min sketch of 4-bit counters, halved after every 10 * maximumSize increments so old popularity fades.
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x27D4EB2F165667C5L};
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+            table = new long[width];
+            mask = width - 1;
+            sampleSize = 10 * maximumSize;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterShift(hash, i);
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> counterShift(hash, i)) & 0xF));
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            return (int) (h >>> 32) & mask;
+        }
+
+        // Each long holds 16 counters; the row picks one of four groups of four.
+        private static int counterShift(int hash, int row) {
+            return ((row << 2) + ((hash >>> (row << 3)) & 3)) << 2;
+        }
+
+        private static int spread(int hash) {
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.lostfound.dao;
+
+// The shared entity caches, one per entity type and keyed by Item_ID or User_ID. Size and TTL can be set with
+// -Dlostfound.cache.maxSize=<entries> and -Dlostfound.cache.ttlSeconds=<seconds>.
+import com.lostfound.model.FoundItem;
+import com.lostfound.model.Item;
+import com.lostfound.model.LostItem;
+import com.lostfound.model.User;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class EntityCaches {
+    private static final Logger LOGGER = Logger.getLogger(EntityCaches.class.getName());
+    private static final int MAX_SIZE = Integer.getInteger("lostfound.cache.maxSize", 1000);
+    private static final long TTL_SECONDS = Long.getLong("lostfound.cache.ttlSeconds", 300L);
+
+    public static final EntityCache<Integer, Item> ITEMS = create("items");
+    public static final EntityCache<Integer, User> USERS = create("users");
+    // Keyed by Item_ID, like LostItemDAO.getLostItemById.
+    public static final EntityCache<Integer, LostItem> LOST_ITEMS = create("lost items");
+    public static final EntityCache<Integer, FoundItem> FOUND_ITEMS = create("found items");
+
+    private EntityCaches() {
+    }
+
+    private static <V> EntityCache<Integer, V> create(String name) {
+        return new EntityCache<>(name, MAX_SIZE, TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public static List<EntityCache.Stats> stats() {
+        return List.of(ITEMS.stats(), USERS.stats(), LOST_ITEMS.stats(), FOUND_ITEMS.stats());
+    }
+
+    public static void logStats() {
+        for (EntityCache.Stats stats : stats()) {
+            LOGGER.log(Level.INFO, "Entity cache {0}", stats);
+        }
+    }
+
+    // Deleting a user cascades to their items and the lost/found rows of those items.
+    public static void invalidateUser(int userId) {
+        USERS.invalidate(userId);
+        ITEMS.invalidateAll();
+        LOST_ITEMS.invalidateAll();
+        FOUND_ITEMS.invalidateAll();
+    }
+}
@@ -0,0 +1,131 @@
+package com.lostfound.dao;
+
+// Hands out Item_ID/Report_ID values from blocks reserved in the id_sequence table (hi/lo), so writers know
+// their keys before inserting and never read them back. Every insert into a table with an allocator must take
+// its IDs from it: an AUTO_INCREMENT insert could claim an ID inside a block that is still being handed out.
+import com.lostfound.config.DBConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class IdAllocator {
+    private static final Logger LOGGER = Logger.getLogger(IdAllocator.class.getName());
+    // Override with -Dlostfound.db.idBlockSize=<ids>; IDs left in a block when the application exits are skipped.
+    public static final int DEFAULT_BLOCK_SIZE = Integer.getInteger("lostfound.db.idBlockSize", 100);
+
+    public static final IdAllocator ITEMS = new IdAllocator("item", "Item_ID", DEFAULT_BLOCK_SIZE);
+    public static final IdAllocator REPORTS = new IdAllocator("reports", "Report_ID", DEFAULT_BLOCK_SIZE);
+
+    // LAST_INSERT_ID(expr) makes the new high-water mark come back as the statement's generated key, so a block
+    // is reserved in one round trip. GREATEST skips past rows inserted without the allocator (e.g. the sample data).
+    private static final String RESERVE_SQL = "UPDATE id_sequence SET Next_Value = LAST_INSERT_ID("
+            + "GREATEST(Next_Value, (SELECT COALESCE(MAX(%s), 0) + 1 FROM %s)) + ?) WHERE Name = ?";
+    private static final String SEED_SQL = "INSERT IGNORE INTO id_sequence (Name, Next_Value) "
+            + "SELECT ?, COALESCE(MAX(%s), 0) + 1 FROM %s";
+
+    private final String table;
+    private final String reserveSql;
+    private final String seedSql;
+    private final int blockSize;
+    private volatile Block current = new Block(0, 0);
+
+    public IdAllocator(String table, String idColumn, int blockSize) {
+        this.table = table;
+        this.reserveSql = String.format(RESERVE_SQL, idColumn, table);
+        this.seedSql = String.format(SEED_SQL, idColumn, table);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public int nextId() throws SQLException {
+        return nextIds(1)[0];
+    }
+
+    // Consecutive IDs for a batch; lock-free unless the current block runs out.
+    public int[] nextIds(int count) throws SQLException {
+        if (count <= 0) {
+            return new int[0];
+        }
+        Block block = current;
+        long first = block.next.getAndAdd(count);
+        if (first + count > block.end) {
+            first = refill(block, count);
+        }
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = (int) (first + i);
+        }
+        return ids;
+    }
+
+    private synchronized long refill(Block exhausted, int count) throws SQLException {
+        if (current != exhausted) {
+            long first = current.next.getAndAdd(count);
+            if (first + count <= current.end) {
+                return first;
+            }
+        }
+        if (count >= blockSize) {
+            return reserve(count);
+        }
+        long first = reserve(blockSize);
+        current = new Block(first + count, first + blockSize);
+        return first;
+    }
+
+    // Reserves on a separate autocommit connection so the sequence row is never locked for the caller's transaction.
+    private long reserve(int size) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            long end = advance(conn, size);
+            if (end < 0) {
+                try (PreparedStatement stmt = conn.prepareStatement(seedSql)) {
+                    stmt.setString(1, table);
+                    stmt.executeUpdate();
+                }
+                end = advance(conn, size);
+            }
+            if (end < 0) {
+                throw new SQLException("No id_sequence row for " + table);
+            }
+            if (end - 1 > Integer.MAX_VALUE) {
+                throw new SQLException("ID space exhausted for " + table);
+            }
+            LOGGER.log(Level.FINE, "Reserved {0} IDs for {1} ending at {2}", new Object[]{size, table, end - 1});
+            return end - size;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reserving IDs for {0}: {1}", new Object[]{table, e.getMessage()});
+            throw e;
+        }
+    }
+
+    // Returns the new Next_Value, or -1 if the sequence row does not exist yet.
+    private long advance(Connection conn, int size) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(reserveSql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, size);
+            stmt.setString(2, table);
+            if (stmt.executeUpdate() == 0) {
+                return -1;
+            }
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                if (!rs.next()) {
+                    throw new SQLException("id_sequence did not return a value for " + table);
+                }
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        Block(long next, long end) {
+            this.next = new AtomicLong(next);
+            this.end = end;
+        }
+    }
+}
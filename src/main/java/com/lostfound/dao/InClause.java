@@ -0,0 +1,59 @@
+package com.lostfound.dao;
+
+// Builds IN (...) lists padded to power-of-two sizes so the statement cache sees a small, fixed set of SQL strings.
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public final class InClause {
+    // Largest IN list sent in a single statement.
+    public static final int MAX_CHUNK_SIZE = 512;
+
+    private InClause() {
+    }
+
+    // Rounds n up to the next bucket size (1, 2, 4, 8, ... MAX_CHUNK_SIZE).
+    public static int bucketSize(int n) {
+        if (n <= 1) {
+            return 1;
+        }
+        int bucket = Integer.highestOneBit(n - 1) << 1;
+        return Math.min(bucket, MAX_CHUNK_SIZE);
+    }
+
+    // Returns "?, ?, ..., ?" with the given number of placeholders.
+    public static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    // Splits distinct IDs into chunks of at most MAX_CHUNK_SIZE.
+    public static List<List<Integer>> chunks(Collection<Integer> ids) {
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(id -> id == null);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int start = 0; start < distinct.size(); start += MAX_CHUNK_SIZE) {
+            chunks.add(distinct.subList(start, Math.min(start + MAX_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    // Binds a chunk padded to its bucket size by repeating the last ID; returns the next parameter index.
+    public static int bind(PreparedStatement stmt, int firstIndex, List<Integer> chunk) throws SQLException {
+        int size = bucketSize(chunk.size());
+        int index = firstIndex;
+        for (int i = 0; i < size; i++) {
+            stmt.setInt(index++, chunk.get(Math.min(i, chunk.size() - 1)));
+        }
+        return index;
+    }
+}
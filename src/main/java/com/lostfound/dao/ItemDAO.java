@@ -2,8 +2,13 @@ package com.lostfound.dao;
 
 // Data Access Object for managing item records in the database.
 import com.lostfound.model.Item;
+import com.lostfound.model.ItemSummary;
 import com.lostfound.config.DBConnection;
 import java.sql.*;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,4 +49,70 @@ public class ItemDAO {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    public Map<Integer, Item> getItemsByIds(Collection<Integer> itemIds) throws SQLException {
+        Map<Integer, Item> items = new HashMap<>();
+        List<List<Integer>> chunks = InClause.chunks(itemIds);
+        if (chunks.isEmpty()) {
+            return items;
+        }
+        try (Connection conn = DBConnection.getConnection()) {
+            for (List<Integer> chunk : chunks) {
+                String sql = "SELECT Item_ID, Name, Description, Category, User_ID, Status, Date FROM item WHERE Item_ID IN ("
+                        + InClause.placeholders(InClause.bucketSize(chunk.size())) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    InClause.bind(stmt, 1, chunk);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            items.put(rs.getInt("Item_ID"), new Item(
+                                    rs.getInt("Item_ID"),
+                                    rs.getString("Name"),
+                                    rs.getString("Description"),
+                                    rs.getString("Category"),
+                                    rs.getInt("User_ID"),
+                                    rs.getString("Status"),
+                                    rs.getTimestamp("Date")
+                            ));
+                        }
+                    }
+                }
+            }
+            LOGGER.log(Level.INFO, "Retrieved {0} items in {1} queries", new Object[]{items.size(), chunks.size()});
+            return items;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving items by IDs", e);
+            throw e;
+        }
+    }
+
+    public Map<Integer, ItemSummary> getItemSummariesByIds(Collection<Integer> itemIds) throws SQLException {
+        Map<Integer, ItemSummary> summaries = new HashMap<>();
+        List<List<Integer>> chunks = InClause.chunks(itemIds);
+        if (chunks.isEmpty()) {
+            return summaries;
+        }
+        try (Connection conn = DBConnection.getConnection()) {
+            for (List<Integer> chunk : chunks) {
+                String sql = "SELECT Item_ID, Name, Category FROM item WHERE Item_ID IN ("
+                        + InClause.placeholders(InClause.bucketSize(chunk.size())) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    InClause.bind(stmt, 1, chunk);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            summaries.put(rs.getInt("Item_ID"), new ItemSummary(
+                                    rs.getInt("Item_ID"),
+                                    rs.getString("Name"),
+                                    rs.getString("Category")
+                            ));
+                        }
+                    }
+                }
+            }
+            LOGGER.log(Level.INFO, "Retrieved {0} item summaries in {1} queries", new Object[]{summaries.size(), chunks.size()});
+            return summaries;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving item summaries by IDs", e);
+            throw e;
+        }
+    }
+}
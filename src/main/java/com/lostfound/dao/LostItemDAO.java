@@ -4,6 +4,7 @@ package com.lostfound.dao;
 import com.lostfound.model.LostItem;
 import com.lostfound.config.DBConnection;
 import java.sql.*;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -21,17 +22,26 @@ public class LostItemDAO {
     }
 
     public boolean createLostItem(LostItem lostItem) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            boolean created = createLostItem(conn, lostItem);
+            ChangeVersion.bump();
+            return created;
+        }
+    }
+
+    // Inserts the lost item on the caller's connection so it can take part in the caller's transaction.
+    public boolean createLostItem(Connection conn, LostItem lostItem) throws SQLException {
         LOGGER.log(Level.INFO, "Inserting lost item for itemId: {0}", lostItem.getItemId());
         String sql = "INSERT INTO lost_item (Item_ID, Last_Seen_Location, Last_Seen_Date, Additional_Details, Image_Path) " +
                 "VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, lostItem.getItemId());
             stmt.setString(2, lostItem.getLastSeenLocation());
             stmt.setDate(3, lostItem.getLastSeenDate());
             stmt.setString(4, lostItem.getAdditionalDetails());
             stmt.setString(5, lostItem.getImagePath());
             int rowsAffected = stmt.executeUpdate();
+            EntityCaches.LOST_ITEMS.invalidate(lostItem.getItemId());
             LOGGER.log(Level.INFO, "Rows affected: {0} for itemId: {1}", new Object[]{rowsAffected, lostItem.getItemId()});
             return rowsAffected > 0;
         } catch (SQLException e) {
@@ -40,6 +50,33 @@ public class LostItemDAO {
         }
     }
 
+    // Inserts every lost item in one transaction; returns the new Lost_Item_IDs in list order.
+    public int[] createLostItems(List<LostItem> lostItems) throws SQLException {
+        return BatchWriter.inTransaction(conn -> createLostItems(conn, lostItems, BatchWriter.DEFAULT_BATCH_SIZE));
+    }
+
+    public int[] createLostItems(Connection conn, List<LostItem> lostItems, int batchSize) throws SQLException {
+        String sql = "INSERT INTO lost_item (Item_ID, Last_Seen_Location, Last_Seen_Date, Additional_Details, Image_Path) " +
+                "VALUES (?, ?, ?, ?, ?)";
+        try {
+            int[] ids = BatchWriter.insert(conn, sql, lostItems, batchSize, (stmt, lostItem) -> {
+                stmt.setInt(1, lostItem.getItemId());
+                stmt.setString(2, lostItem.getLastSeenLocation());
+                stmt.setDate(3, lostItem.getLastSeenDate());
+                stmt.setString(4, lostItem.getAdditionalDetails());
+                stmt.setString(5, lostItem.getImagePath());
+            });
+            for (LostItem lostItem : lostItems) {
+                EntityCaches.LOST_ITEMS.invalidate(lostItem.getItemId());
+            }
+            LOGGER.log(Level.INFO, "Inserted {0} lost items", ids.length);
+            return ids;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error inserting {0} lost items: {1}", new Object[]{lostItems.size(), e.getMessage()});
+            throw e;
+        }
+    }
+
     public LostItem getLostItemById(int itemId) throws SQLException {
         LOGGER.log(Level.INFO, "Fetching lost item for itemId: {0}", itemId);
         String sql = "SELECT * FROM lost_item WHERE Item_ID = ?";
@@ -19,23 +19,27 @@ public class ReportDAO {
     }
 
     public boolean createReport(Report report) throws SQLException {
-        String sql = "INSERT INTO report (User_ID, Item_ID, Report_Type, Report_Date) VALUES (?, ?, ?, ?)";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            stmt.setInt(1, report.getUserId());
-            stmt.setInt(2, report.getItemId());
-            stmt.setString(3, report.getReportType());
-            stmt.setTimestamp(4, report.getReportDate() != null ? report.getReportDate() : new Timestamp(System.currentTimeMillis()));
-
-            int rowsAffected = stmt.executeUpdate();
-            if (rowsAffected > 0) {
-                try (ResultSet rs = stmt.getGeneratedKeys()) {
-                    if (rs.next()) {
-                        LOGGER.log(Level.INFO, "Created report with ID: {0}, Item_ID: {1}",
-                                new Object[]{rs.getInt(1), report.getItemId()});
+        String sql = "INSERT INTO reports (Report_ID, User_ID, Item_ID, Report_Type, Report_Date) VALUES (?, ?, ?, ?, ?)";
+        try {
+            int reportId = IdAllocator.REPORTS.nextId();
+            // The insert and its change_log entry commit together.
+            int rowsAffected = BatchWriter.inTransaction(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, reportId);
+                    stmt.setInt(2, report.getUserId());
+                    stmt.setInt(3, report.getItemId());
+                    stmt.setString(4, report.getReportType());
+                    stmt.setTimestamp(5, report.getReportDate() != null ? report.getReportDate() : new Timestamp(System.currentTimeMillis()));
+                    int inserted = stmt.executeUpdate();
+                    if (inserted > 0) {
+                        ChangeLog.record(conn, ChangeLog.REPORT, reportId, ChangeLog.Operation.INSERT);
                     }
+                    return inserted;
                 }
+            });
+            if (rowsAffected > 0) {
+                LOGGER.log(Level.INFO, "Created report with ID: {0}, Item_ID: {1}",
+                        new Object[]{reportId, report.getItemId()});
                 return true;
             }
             LOGGER.log(Level.WARNING, "Failed to create report with Item_ID: {0}", report.getItemId());
@@ -46,8 +50,35 @@ public class ReportDAO {
         }
     }
 
+    // Inserts every report in one transaction; returns the new Report_IDs in list order.
+    public int[] createReports(List<Report> reports) throws SQLException {
+        return BatchWriter.inTransaction(conn -> createReports(conn, reports, BatchWriter.DEFAULT_BATCH_SIZE));
+    }
+
+    public int[] createReports(Connection conn, List<Report> reports, int batchSize) throws SQLException {
+        String sql = "INSERT INTO reports (Report_ID, User_ID, Item_ID, Report_Type, Report_Date) VALUES (?, ?, ?, ?, ?)";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try {
+            int[] ids = IdAllocator.REPORTS.nextIds(reports.size());
+            int[] next = {0};
+            BatchWriter.update(conn, sql, reports, batchSize, (stmt, report) -> {
+                stmt.setInt(1, ids[next[0]++]);
+                stmt.setInt(2, report.getUserId());
+                stmt.setInt(3, report.getItemId());
+                stmt.setString(4, report.getReportType());
+                stmt.setTimestamp(5, report.getReportDate() != null ? report.getReportDate() : now);
+            });
+            ChangeLog.record(conn, ChangeLog.REPORT, ids, ChangeLog.Operation.INSERT);
+            LOGGER.log(Level.INFO, "Created {0} reports", ids.length);
+            return ids;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating {0} reports: {1}", new Object[]{reports.size(), e.getMessage()});
+            throw e;
+        }
+    }
+
     public Report getReportById(int reportId) throws SQLException {
-        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM report WHERE Report_ID = ?";
+        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM reports WHERE Report_ID = ?";
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
@@ -75,7 +106,7 @@ public class ReportDAO {
 
     public List<Report> getAllReports() throws SQLException {
         List<Report> reports = new ArrayList<>();
-        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM report";
+        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM reports";
 
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
@@ -100,7 +131,7 @@ public class ReportDAO {
 
     public List<Report> getReportsByUserId(int userId) throws SQLException {
         List<Report> reports = new ArrayList<>();
-        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM report WHERE User_ID = ?";
+        String sql = "SELECT Report_ID, User_ID, Item_ID, Report_Type, Report_Date FROM reports WHERE User_ID = ?";
 
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -127,17 +158,22 @@ public class ReportDAO {
     }
 
     public boolean updateReport(Report report) throws SQLException {
-        String sql = "UPDATE report SET User_ID = ?, Item_ID = ?, Report_Type = ?, Report_Date = ? WHERE Report_ID = ?";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, report.getUserId());
-            stmt.setInt(2, report.getItemId());
-            stmt.setString(3, report.getReportType());
-            stmt.setTimestamp(4, report.getReportDate() != null ? report.getReportDate() : new Timestamp(System.currentTimeMillis()));
-            stmt.setInt(5, report.getReportId());
-
-            int rowsAffected = stmt.executeUpdate();
+        String sql = "UPDATE reports SET User_ID = ?, Item_ID = ?, Report_Type = ?, Report_Date = ? WHERE Report_ID = ?";
+        try {
+            int rowsAffected = BatchWriter.inTransaction(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, report.getUserId());
+                    stmt.setInt(2, report.getItemId());
+                    stmt.setString(3, report.getReportType());
+                    stmt.setTimestamp(4, report.getReportDate() != null ? report.getReportDate() : new Timestamp(System.currentTimeMillis()));
+                    stmt.setInt(5, report.getReportId());
+                    int updated = stmt.executeUpdate();
+                    if (updated > 0) {
+                        ChangeLog.record(conn, ChangeLog.REPORT, report.getReportId(), ChangeLog.Operation.UPDATE);
+                    }
+                    return updated;
+                }
+            });
             if (rowsAffected > 0) {
                 LOGGER.log(Level.INFO, "Updated report ID: {0}, Item_ID: {1}",
                         new Object[]{report.getReportId(), report.getItemId()});
@@ -152,12 +188,18 @@ public class ReportDAO {
     }
 
     public boolean deleteReport(int reportId) throws SQLException {
-        String sql = "DELETE FROM report WHERE Report_ID = ?";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, reportId);
-            int rowsAffected = stmt.executeUpdate();
+        String sql = "DELETE FROM reports WHERE Report_ID = ?";
+        try {
+            int rowsAffected = BatchWriter.inTransaction(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, reportId);
+                    int deleted = stmt.executeUpdate();
+                    if (deleted > 0) {
+                        ChangeLog.record(conn, ChangeLog.REPORT, reportId, ChangeLog.Operation.DELETE);
+                    }
+                    return deleted;
+                }
+            });
             boolean success = rowsAffected > 0;
             if (success) {
                 LOGGER.log(Level.INFO, "Deleted report ID: {0}", reportId);
@@ -0,0 +1,104 @@
+package com.lostfound.dao;
+
+// Streams large result sets row by row so full-table reads run in constant heap.
+// A positive fetch size reads through a server-side cursor in batches of that many rows (useCursorFetch);
+// Integer.MIN_VALUE switches Connector/J to unbuffered row-at-a-time streaming.
+import com.lostfound.config.DBConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class ResultStreams {
+    private static final Logger LOGGER = Logger.getLogger(ResultStreams.class.getName());
+    // Override with -Dlostfound.db.fetchSize=<rows>.
+    public static final int DEFAULT_FETCH_SIZE = Integer.getInteger("lostfound.db.fetchSize", 1000);
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowHandler<T> {
+        void handle(T row) throws SQLException;
+    }
+
+    private ResultStreams() {
+    }
+
+    // Hands each row to the handler as it arrives and returns the number of rows read.
+    public static <T> long forEach(String sql, int fetchSize, RowMapper<T> mapper, RowHandler<? super T> handler)
+            throws SQLException {
+        long count = 0;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = prepare(conn, sql, fetchSize);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                handler.handle(mapper.map(rs));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Lazily reads rows as the stream is consumed; the caller must close the stream to release the connection.
+    // SQL errors while reading surface as UncheckedSQLException.
+    public static <T> Stream<T> stream(String sql, int fetchSize, RowMapper<T> mapper) throws SQLException {
+        Connection conn = DBConnection.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs;
+        try {
+            stmt = prepare(conn, sql, fetchSize);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            closeQuietly(stmt, conn);
+            throw e;
+        }
+        PreparedStatement statement = stmt;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> closeQuietly(rs, statement, conn));
+    }
+
+    private static PreparedStatement prepare(Connection conn, String sql, int fetchSize) throws SQLException {
+        // The explicit result set type bypasses the pool's statement cache, so the fetch size never leaks
+        // into a cached statement.
+        PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(fetchSize);
+        return stmt;
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Error closing streamed result: {0}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.lostfound.dao;
+
+// Coalesces concurrent loads of the same key: the first caller runs the query and everyone who asks for the
+// key while it is in flight waits for and shares that result instead of running the query again.
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SingleFlight<K, V> {
+    // SQLState set by QueryCancellation.
+    private static final String CANCELLED_STATE = "70100";
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public V execute(K key, Loader<? extends V> loader) throws SQLException {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            try {
+                return await(existing);
+            } catch (SQLException e) {
+                // The leader's cancellation belongs to the leader; a waiting caller still wants its result.
+                if (!CANCELLED_STATE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                return execute(key, loader);
+            }
+        }
+        loads.incrementAndGet();
+        // Removed before completing, so a caller retrying after a cancellation starts a new load.
+        try {
+            V value = loader.load();
+            inFlight.remove(key, call);
+            call.complete(value);
+            return value;
+        } catch (SQLException | RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Queries actually run.
+    public long getLoads() {
+        return loads.get();
+    }
+
+    // Calls answered by another caller's query.
+    public long getCoalescedHits() {
+        return coalesced.get();
+    }
+
+    // Flight key for cached reads: pairs the cache key with the version (or generation) the caller observed, so a
+    // caller who arrives after a write starts its own load instead of sharing one that may predate the write.
+    public static final class VersionedKey<K> {
+        private final K key;
+        private final long version;
+
+        public VersionedKey(K key, long version) {
+            this.key = key;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof VersionedKey)) {
+                return false;
+            }
+            VersionedKey<?> other = (VersionedKey<?>) o;
+            return version == other.version && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Long.hashCode(version);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> call) throws SQLException {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a shared query", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+}
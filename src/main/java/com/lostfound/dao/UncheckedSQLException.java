@@ -0,0 +1,15 @@
+package com.lostfound.dao;
+
+// Carries an SQLException out of a java.util.stream pipeline; getCause() returns the original exception.
+import java.sql.SQLException;
+
+public class UncheckedSQLException extends RuntimeException {
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
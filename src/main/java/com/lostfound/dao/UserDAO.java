@@ -13,10 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class UserDAO {
 
     private static final Logger LOGGER = Logger.getLogger(UserDAO.class.getName());
+    private static final String ALL_USERS_QUERY = "SELECT User_ID, Name, Email, Password, Role, Contact FROM user";
     private AdminDAO adminDAO = new AdminDAO();
 
     public User authenticate(String email, String password) throws SQLException {
@@ -50,6 +52,10 @@ public class UserDAO {
     }
 
     public User getUserById(int userId) throws SQLException {
+        return EntityCaches.USERS.get(userId, this::loadUser);
+    }
+
+    private User loadUser(int userId) throws SQLException {
         String query = "SELECT User_ID, Name, Email, Password, Role, Contact FROM user WHERE User_ID = ?";
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
@@ -78,39 +84,56 @@ public class UserDAO {
 
     public List<User> getAllUsers() throws SQLException {
         List<User> users = new ArrayList<>();
-        String query = "SELECT User_ID, Name, Email, Password, Role, Contact FROM user";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                users.add(new User(
-                        rs.getInt("User_ID"),
-                        rs.getString("Name"),
-                        rs.getString("Email"),
-                        rs.getString("Password"),
-                        rs.getString("Role"),
-                        rs.getString("Contact")
-                ));
-            }
-            LOGGER.log(Level.INFO, "Fetched {0} users", users.size());
-            return users;
+        forEachUser(ResultStreams.DEFAULT_FETCH_SIZE, users::add);
+        LOGGER.log(Level.INFO, "Fetched {0} users", users.size());
+        return users;
+    }
+
+    public long forEachUser(int fetchSize, ResultStreams.RowHandler<? super User> handler) throws SQLException {
+        try {
+            return ResultStreams.forEach(ALL_USERS_QUERY, fetchSize, UserDAO::mapUser, handler);
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error fetching all users", e);
             throw e;
         }
     }
 
+    // The caller must close the returned stream.
+    public Stream<User> streamUsers(int fetchSize) throws SQLException {
+        return ResultStreams.stream(ALL_USERS_QUERY, fetchSize, UserDAO::mapUser);
+    }
+
+    private static User mapUser(ResultSet rs) throws SQLException {
+        return new User(
+                rs.getInt("User_ID"),
+                rs.getString("Name"),
+                rs.getString("Email"),
+                rs.getString("Password"),
+                rs.getString("Role"),
+                rs.getString("Contact")
+        );
+    }
+
     public boolean updateUser(User user) throws SQLException {
         String query = "UPDATE user SET Name = ?, Email = ?, Password = ?, Role = ?, Contact = ? WHERE User_ID = ?";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            stmt.setString(1, user.getName());
-            stmt.setString(2, user.getEmail());
-            stmt.setString(3, user.getPassword());
-            stmt.setString(4, user.getRole());
-            stmt.setString(5, user.getContact());
-            stmt.setInt(6, user.getUserId());
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = BatchWriter.inTransaction(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    stmt.setString(1, user.getName());
+                    stmt.setString(2, user.getEmail());
+                    stmt.setString(3, user.getPassword());
+                    stmt.setString(4, user.getRole());
+                    stmt.setString(5, user.getContact());
+                    stmt.setInt(6, user.getUserId());
+                    int updated = stmt.executeUpdate();
+                    if (updated > 0) {
+                        ChangeLog.record(conn, ChangeLog.USER, user.getUserId(), ChangeLog.Operation.UPDATE);
+                        ChangeLog.recordReportsOfUser(conn, user.getUserId(), ChangeLog.Operation.UPDATE);
+                    }
+                    return updated;
+                }
+            });
+            EntityCaches.USERS.invalidate(user.getUserId());
             LOGGER.log(Level.INFO, "Updated user with userId: {0}, rows affected: {1}",
                     new Object[]{user.getUserId(), rowsAffected});
             return rowsAffected > 0;
@@ -120,12 +143,58 @@ public class UserDAO {
         }
     }
 
+    // Updates every user in one transaction; returns the update count of each row.
+    public int[] updateUsers(List<User> users) throws SQLException {
+        int[] counts = BatchWriter.inTransaction(conn -> updateUsers(conn, users, BatchWriter.DEFAULT_BATCH_SIZE));
+        for (User user : users) {
+            EntityCaches.USERS.invalidate(user.getUserId());
+        }
+        return counts;
+    }
+
+    // Runs in the caller's transaction. The caller invalidates EntityCaches.USERS for these users after it
+    // commits; invalidating before would let a concurrent reader cache the old rows again.
+    public int[] updateUsers(Connection conn, List<User> users, int batchSize) throws SQLException {
+        String query = "UPDATE user SET Name = ?, Email = ?, Password = ?, Role = ?, Contact = ? WHERE User_ID = ?";
+        try {
+            int[] counts = BatchWriter.update(conn, query, users, batchSize, (stmt, user) -> {
+                stmt.setString(1, user.getName());
+                stmt.setString(2, user.getEmail());
+                stmt.setString(3, user.getPassword());
+                stmt.setString(4, user.getRole());
+                stmt.setString(5, user.getContact());
+                stmt.setInt(6, user.getUserId());
+            });
+            int[] userIds = users.stream().mapToInt(User::getUserId).toArray();
+            ChangeLog.record(conn, ChangeLog.USER, userIds, ChangeLog.Operation.UPDATE);
+            for (int userId : userIds) {
+                ChangeLog.recordReportsOfUser(conn, userId, ChangeLog.Operation.UPDATE);
+            }
+            LOGGER.log(Level.INFO, "Updated {0} users", users.size());
+            return counts;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating {0} users: {1}", new Object[]{users.size(), e.getMessage()});
+            throw e;
+        }
+    }
+
     public boolean deleteUser(int userId) throws SQLException {
         String query = "DELETE FROM user WHERE User_ID = ?";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            stmt.setInt(1, userId);
-            int rowsAffected = stmt.executeUpdate();
+        try {
+            int rowsAffected = BatchWriter.inTransaction(conn -> {
+                // Read first and locked: the user's reports go with it through ON DELETE CASCADE.
+                int[] reportIds = lockReportIdsOfUser(conn, userId);
+                try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                    stmt.setInt(1, userId);
+                    int deleted = stmt.executeUpdate();
+                    if (deleted > 0) {
+                        ChangeLog.record(conn, ChangeLog.REPORT, reportIds, ChangeLog.Operation.DELETE);
+                        ChangeLog.record(conn, ChangeLog.USER, userId, ChangeLog.Operation.DELETE);
+                    }
+                    return deleted;
+                }
+            });
+            EntityCaches.invalidateUser(userId);
             LOGGER.log(Level.INFO, "Deleted user with userId: {0}, rows affected: {1}",
                     new Object[]{userId, rowsAffected});
             return rowsAffected > 0;
@@ -135,6 +204,20 @@ public class UserDAO {
         }
     }
 
+    private static int[] lockReportIdsOfUser(Connection conn, int userId) throws SQLException {
+        String query = "SELECT Report_ID FROM reports WHERE User_ID = ? FOR UPDATE";
+        List<Integer> reportIds = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    reportIds.add(rs.getInt(1));
+                }
+            }
+        }
+        return reportIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     public boolean createUserWithRole(String name, String email, String password, String role, String contact) throws SQLException {
         String userQuery = "INSERT INTO user (Name, Email, Password, Role, Contact) VALUES (?, ?, ?, ?, ?)";
         Connection conn = null;
@@ -155,11 +238,13 @@ public class UserDAO {
                     if (rs.next()) {
                         int userId = rs.getInt(1);
                         if ("Admin".equalsIgnoreCase(role)) {
-                            Admin admin = new Admin(0, userId, "Moderator");
-                            adminDAO.addAdmin(admin);
+                            adminDAO.addAdmin(conn, new Admin(0, userId, "Moderator"));
                         }
+                        ChangeLog.record(conn, ChangeLog.USER, userId, ChangeLog.Operation.INSERT);
                         LOGGER.log(Level.INFO, "Created user with userId: {0}", userId);
                         conn.commit();
+                        ChangeVersion.bump();
+                        EntityCaches.USERS.invalidate(userId);
                         return true;
                     }
                 }
@@ -196,19 +281,20 @@ public class UserDAO {
             try (PreparedStatement userStmt = conn.prepareStatement(userQuery)) {
                 userStmt.setString(1, newRole != null && newRole.equalsIgnoreCase("Admin") ? "Admin" : "User");
                 userStmt.setInt(2, userId);
-                userStmt.executeUpdate();
+                if (userStmt.executeUpdate() == 0) {
+                    throw new SQLException("User_ID " + userId + " does not exist");
+                }
             }
+            // Same connection and transaction as the role update, so both changes commit together.
             if ("Admin".equalsIgnoreCase(newRole)) {
-                Admin admin = new Admin(0, userId, "Moderator");
-                adminDAO.addAdmin(admin);
+                adminDAO.grantAdmin(conn, userId, "Moderator");
             } else {
-                String deleteQuery = "DELETE FROM admin WHERE User_ID = ?";
-                try (PreparedStatement deleteStmt = conn.prepareStatement(deleteQuery)) {
-                    deleteStmt.setInt(1, userId);
-                    deleteStmt.executeUpdate();
-                }
+                adminDAO.revokeAdmin(conn, userId);
             }
+            ChangeLog.record(conn, ChangeLog.USER, userId, ChangeLog.Operation.UPDATE);
             conn.commit();
+            ChangeVersion.bump();
+            EntityCaches.USERS.invalidate(userId);
             LOGGER.log(Level.INFO, "Updated role for userId: {0} to {1}", new Object[]{userId, newRole});
         } catch (SQLException e) {
             if (conn != null) {
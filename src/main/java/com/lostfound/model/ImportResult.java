@@ -0,0 +1,49 @@
+package com.lostfound.model;
+
+// Outcome of a bulk CSV import run.
+import java.nio.file.Path;
+
+public class ImportResult {
+    private final long recordsRead;
+    private final long recordsSkipped;
+    private final long recordsImported;
+    private final long recordsRejected;
+    private final Path errorReport;
+    private final boolean cancelled;
+
+    public ImportResult(long recordsRead, long recordsSkipped, long recordsImported, long recordsRejected,
+                        Path errorReport, boolean cancelled) {
+        this.recordsRead = recordsRead;
+        this.recordsSkipped = recordsSkipped;
+        this.recordsImported = recordsImported;
+        this.recordsRejected = recordsRejected;
+        this.errorReport = errorReport;
+        this.cancelled = cancelled;
+    }
+
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    // Records already committed by an earlier, interrupted run of the same file.
+    public long getRecordsSkipped() {
+        return recordsSkipped;
+    }
+
+    public long getRecordsImported() {
+        return recordsImported;
+    }
+
+    public long getRecordsRejected() {
+        return recordsRejected;
+    }
+
+    // Null when every record was valid.
+    public Path getErrorReport() {
+        return errorReport;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lostfound.model;
+
+// Lightweight projection of an item for list views (no description).
+public class ItemSummary {
+    private int itemId;
+    private String name;
+    private String category;
+
+    public ItemSummary(int itemId, String name, String category) {
+        this.itemId = itemId;
+        this.name = name;
+        this.category = category;
+    }
+
+    public int getItemId() {
+        return itemId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+}
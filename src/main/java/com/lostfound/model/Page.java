@@ -0,0 +1,36 @@
+package com.lostfound.model;
+
+// One page of results with tokens for the neighbouring pages (null when there is no such page).
+import java.util.List;
+
+public class Page<T> {
+    private final List<T> items;
+    private final String nextToken;
+    private final String previousToken;
+
+    public Page(List<T> items, String nextToken, String previousToken) {
+        this.items = items;
+        this.nextToken = nextToken;
+        this.previousToken = previousToken;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public String getPreviousToken() {
+        return previousToken;
+    }
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousToken != null;
+    }
+}
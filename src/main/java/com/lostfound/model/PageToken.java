@@ -0,0 +1,49 @@
+package com.lostfound.model;
+
+// Opaque keyset cursor over (Report_Date, Report_ID) used for report pagination.
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+public class PageToken {
+    private final boolean forward;
+    private final Timestamp reportDate;
+    private final int reportId;
+
+    public PageToken(boolean forward, Timestamp reportDate, int reportId) {
+        this.forward = forward;
+        this.reportDate = reportDate;
+        this.reportId = reportId;
+    }
+
+    // True for "rows after this key" (older reports), false for "rows before this key" (newer reports).
+    public boolean isForward() {
+        return forward;
+    }
+
+    public Timestamp getReportDate() {
+        return reportDate;
+    }
+
+    public int getReportId() {
+        return reportId;
+    }
+
+    public String encode() {
+        String raw = (forward ? "f" : "b") + ":" + reportDate.getTime() + ":" + reportId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !("f".equals(parts[0]) || "b".equals(parts[0]))) {
+                throw new IllegalArgumentException("Malformed page token");
+            }
+            return new PageToken("f".equals(parts[0]), new Timestamp(Long.parseLong(parts[1])), Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token, e);
+        }
+    }
+}
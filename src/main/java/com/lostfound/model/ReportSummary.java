@@ -0,0 +1,55 @@
+package com.lostfound.model;
+
+// Model class for one row of a user's report list (report, item name and lost/found location).
+import java.sql.Timestamp;
+
+public class ReportSummary {
+    private int reportId;
+    private int itemId;
+    private String itemName;
+    private String reportType;
+    private Timestamp reportDate;
+    private String location;
+    private boolean hasDetails;
+
+    public ReportSummary(int reportId, int itemId, String itemName, String reportType,
+                         Timestamp reportDate, String location, boolean hasDetails) {
+        this.reportId = reportId;
+        this.itemId = itemId;
+        this.itemName = itemName;
+        this.reportType = reportType;
+        this.reportDate = reportDate;
+        this.location = location;
+        this.hasDetails = hasDetails;
+    }
+
+    public int getReportId() {
+        return reportId;
+    }
+
+    public int getItemId() {
+        return itemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public String getReportType() {
+        return reportType;
+    }
+
+    public Timestamp getReportDate() {
+        return reportDate;
+    }
+
+    // Last seen location for lost reports, found location for found reports.
+    public String getLocation() {
+        return location;
+    }
+
+    // False when the matching lost_item/found_item row is missing.
+    public boolean hasDetails() {
+        return hasDetails;
+    }
+}
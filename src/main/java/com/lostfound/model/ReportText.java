@@ -0,0 +1,32 @@
+package com.lostfound.model;
+
+// Searchable text of a report: its item's name and description and the lost/found additional details.
+public class ReportText {
+    private int reportId;
+    private String itemName;
+    private String description;
+    private String additionalDetails;
+
+    public ReportText(int reportId, String itemName, String description, String additionalDetails) {
+        this.reportId = reportId;
+        this.itemName = itemName;
+        this.description = description;
+        this.additionalDetails = additionalDetails;
+    }
+
+    public int getReportId() {
+        return reportId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getAdditionalDetails() {
+        return additionalDetails;
+    }
+}
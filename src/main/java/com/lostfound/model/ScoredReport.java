@@ -0,0 +1,20 @@
+package com.lostfound.model;
+
+// A report returned by ranked search with its relevance score; higher scores are better matches.
+public class ScoredReport {
+    private ReportDetails report;
+    private double score;
+
+    public ScoredReport(ReportDetails report, double score) {
+        this.report = report;
+        this.score = score;
+    }
+
+    public ReportDetails getReport() {
+        return report;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,17 @@
+package com.lostfound.model;
+
+// A page of search matches plus the total number of matching rows.
+import java.util.List;
+
+public class SearchResult<T> extends Page<T> {
+    private final int totalCount;
+
+    public SearchResult(List<T> items, String nextToken, String previousToken, int totalCount) {
+        super(items, nextToken, previousToken);
+        this.totalCount = totalCount;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+}
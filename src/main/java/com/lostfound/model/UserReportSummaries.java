@@ -0,0 +1,26 @@
+package com.lostfound.model;
+
+// A user's reports split into lost and found rows.
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserReportSummaries {
+    private final List<ReportSummary> lostReports = new ArrayList<>();
+    private final List<ReportSummary> foundReports = new ArrayList<>();
+
+    public List<ReportSummary> getLostReports() {
+        return lostReports;
+    }
+
+    public List<ReportSummary> getFoundReports() {
+        return foundReports;
+    }
+
+    public int size() {
+        return lostReports.size() + foundReports.size();
+    }
+
+    public boolean isEmpty() {
+        return lostReports.isEmpty() && foundReports.isEmpty();
+    }
+}
@@ -1,10 +1,12 @@
 package com.lostfound.service;
 
 // Service layer for managing admin-related operations.
-import com.lostfound.config.DBConnection;
 import com.lostfound.dao.AdminDAO;
+import com.lostfound.dao.BatchWriter;
+import com.lostfound.dao.ChangeLog;
 import com.lostfound.model.Admin;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -30,19 +32,24 @@ public class AdminService {
 
     public List<Admin> getAllAdmins() throws SQLException {
         LOGGER.log(Level.INFO, "Fetching all admins");
-        return adminDAO.getAllAdmins();
+        return QueryCache.shared().get("allAdmins", List.of(),
+                () -> Collections.unmodifiableList(adminDAO.getAllAdmins()));
     }
 
     public void updateReportType(int reportId, String reportType) throws SQLException {
-        try (var conn = DBConnection.getConnection()) {
-            String sql = "UPDATE reports SET report_type = ? WHERE Report_ID = ?";
+        String sql = "UPDATE reports SET report_type = ? WHERE Report_ID = ?";
+        int rowsAffected = BatchWriter.inTransaction(conn -> {
             try (var stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, reportType);
                 stmt.setInt(2, reportId);
-                int rowsAffected = stmt.executeUpdate();
-                LOGGER.log(Level.INFO, "Updated report ID: {0} to report_type: {1}, Rows affected: {2}",
-                        new Object[]{reportId, reportType, rowsAffected});
+                int updated = stmt.executeUpdate();
+                if (updated > 0) {
+                    ChangeLog.record(conn, ChangeLog.REPORT, reportId, ChangeLog.Operation.UPDATE);
+                }
+                return updated;
             }
-        }
+        });
+        LOGGER.log(Level.INFO, "Updated report ID: {0} to report_type: {1}, Rows affected: {2}",
+                new Object[]{reportId, reportType, rowsAffected});
     }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.lostfound.service;
+
+// Holds an in-memory report index that is built on its own background thread, started by startIndexing() or
+// the first get(), and then kept current from change_log on that same thread, so neither the poller nor
+// searches run its queries: created and updated reports are fetched and re-added, deleted ones removed. Callers
+// of get() before the first build completes wait for it; a batch that cannot be fetched triggers a rebuild.
+// Listeners hear of each change_log batch once it is in the index, so a search they re-run sees it.
+import com.lostfound.dao.ChangeLog;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class BackgroundIndex<I, R> {
+    private static final Logger LOGGER = Logger.getLogger(BackgroundIndex.class.getName());
+
+    @FunctionalInterface
+    interface Loader<I> {
+        I load() throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface Fetcher<R> {
+        // Rows of the given reports; deleted reports are absent.
+        Map<Integer, R> fetch(List<Integer> reportIds) throws SQLException;
+    }
+
+    private final String name;
+    private final Loader<I> loader;
+    private final Fetcher<R> fetcher;
+    private final BiConsumer<I, R> adder;
+    private final ObjIntConsumer<I> remover;
+    private final ExecutorService indexer;
+    private final List<ChangeLogPoller.Listener> listeners = new CopyOnWriteArrayList<>();
+    // Guarded by this.
+    private CompletableFuture<I> build;
+    private boolean listening;
+
+    // The name appears in log messages and, hyphenated, in the indexer thread's name.
+    BackgroundIndex(String name, Loader<I> loader, Fetcher<R> fetcher, BiConsumer<I, R> adder,
+                    ObjIntConsumer<I> remover) {
+        this.name = name;
+        this.loader = loader;
+        this.fetcher = fetcher;
+        this.adder = adder;
+        this.remover = remover;
+        this.indexer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, name.replace(' ', '-') + "er");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Starts the initial build in the background if it has not run yet or failed last time.
+    void startIndexing() {
+        building();
+    }
+
+    // Called on the indexer thread after each change_log batch is applied, or skipped because a build that
+    // will include it is pending.
+    void addListener(ChangeLogPoller.Listener listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(ChangeLogPoller.Listener listener) {
+        listeners.remove(listener);
+    }
+
+    I get() throws SQLException {
+        try {
+            return building().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the " + name, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException cause) {
+                throw cause;
+            }
+            throw new SQLException("Error building the " + name, e.getCause());
+        }
+    }
+
+    private synchronized CompletableFuture<I> building() {
+        if (build == null || build.isCompletedExceptionally()) {
+            CompletableFuture<I> next = new CompletableFuture<>();
+            build = next;
+            // Listen first, so a change committed while the rows load is applied afterwards rather than lost;
+            // it queues behind the build on the indexer thread.
+            if (!listening) {
+                ChangeLogPoller.shared().addListener(ChangeLog.REPORT,
+                        changes -> indexer.execute(() -> applyReportChanges(changes)));
+                listening = true;
+            }
+            indexer.execute(() -> {
+                try {
+                    next.complete(loader.load());
+                } catch (SQLException e) {
+                    LOGGER.log(Level.SEVERE, "Error building {0}: {1}", new Object[]{name, e.getMessage()});
+                    next.completeExceptionally(e);
+                }
+            });
+        }
+        return build;
+    }
+
+    private void applyReportChanges(Map<Integer, ChangeLog.Operation> changes) {
+        try {
+            apply(changes);
+        } finally {
+            for (ChangeLogPoller.Listener listener : listeners) {
+                try {
+                    listener.changed(changes);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Listener of " + name + " failed", e);
+                }
+            }
+        }
+    }
+
+    private void apply(Map<Integer, ChangeLog.Operation> changes) {
+        CompletableFuture<I> current;
+        synchronized (this) {
+            current = build;
+        }
+        // A failed or pending build reads the changes itself when it next runs.
+        if (current == null || !current.isDone() || current.isCompletedExceptionally()) {
+            return;
+        }
+        I index = current.join();
+        List<Integer> changed = new ArrayList<>();
+        for (Map.Entry<Integer, ChangeLog.Operation> change : changes.entrySet()) {
+            if (change.getValue() == ChangeLog.Operation.DELETE) {
+                remover.accept(index, change.getKey());
+            } else {
+                changed.add(change.getKey());
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Integer, R> rows = fetcher.fetch(changed);
+            for (int reportId : changed) {
+                R row = rows.get(reportId);
+                if (row == null) {
+                    remover.accept(index, reportId);
+                } else {
+                    adder.accept(index, row);
+                }
+            }
+        } catch (SQLException e) {
+            // The index would miss these changes for good, so rebuild it in the background.
+            LOGGER.log(Level.WARNING, "Error re-indexing {0} changed reports in {1}, rebuilding: {2}",
+                    new Object[]{changed.size(), name, e.getMessage()});
+            synchronized (this) {
+                if (build == current) {
+                    build = null;
+                }
+            }
+            startIndexing();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.lostfound.service;
+
+// Polls change_log for rows past the last one seen and hands the changed IDs of each entity to the registered
+// listeners, so open tables can patch just those rows instead of reloading. Seq values are allocated at insert
+// but become visible at commit, so a missing Seq is re-checked for a while before it is taken as rolled back.
+import com.lostfound.dao.ChangeLog;
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.EntityCaches;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ChangeLogPoller {
+    private static final Logger LOGGER = Logger.getLogger(ChangeLogPoller.class.getName());
+    // Override with -Dlostfound.changeLog.pollMs=<ms>, -Dlostfound.changeLog.gapTimeoutMs=<ms> and
+    // -Dlostfound.changeLog.retentionHours=<hours>.
+    private static final long POLL_MS = Long.getLong("lostfound.changeLog.pollMs", 2000L);
+    private static final long GAP_TIMEOUT_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong("lostfound.changeLog.gapTimeoutMs", 30_000L));
+    private static final int RETENTION_HOURS = Integer.getInteger("lostfound.changeLog.retentionHours", 24);
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int BATCH_SIZE = 1000;
+    // Wider holes are left by auto-increment lock modes or pruning, not by open transactions.
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private static final ChangeLogPoller SHARED = new ChangeLogPoller();
+
+    // Called on the poller thread with the changed IDs and the last operation on each, in Seq order.
+    @FunctionalInterface
+    public interface Listener {
+        void changed(Map<Integer, ChangeLog.Operation> changes);
+    }
+
+    private final Map<String, List<Listener>> listeners = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    // Poller-thread state: the highest Seq applied and the lower Seqs not seen yet, with when they were noticed.
+    private long lastSeq = -1;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private long lastPrune = System.nanoTime();
+
+    public static ChangeLogPoller shared() {
+        return SHARED;
+    }
+
+    // Starts polling on first use; the poller thread is a daemon and runs until exit.
+    public void addListener(String entity, Listener listener) {
+        listeners.computeIfAbsent(entity, e -> new CopyOnWriteArrayList<>()).add(listener);
+        synchronized (this) {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "change-log-poller");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                scheduler.scheduleWithFixedDelay(this::poll, 0, POLL_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void removeListener(String entity, Listener listener) {
+        List<Listener> registered = listeners.get(entity);
+        if (registered != null) {
+            registered.remove(listener);
+        }
+    }
+
+    private void poll() {
+        try {
+            if (lastSeq < 0) {
+                lastSeq = ChangeLog.latestSeq();
+                LOGGER.log(Level.INFO, "Following change_log from Seq {0}", lastSeq);
+                return;
+            }
+            Map<String, Map<Integer, ChangeLog.Operation>> changes = readChanges();
+            if (!changes.isEmpty()) {
+                ChangeVersion.bump();
+                invalidateCaches(changes.get(ChangeLog.USER));
+                for (Map.Entry<String, Map<Integer, ChangeLog.Operation>> entry : changes.entrySet()) {
+                    dispatch(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+                }
+            }
+            if (System.nanoTime() - lastPrune > PRUNE_INTERVAL_NANOS) {
+                lastPrune = System.nanoTime();
+                ChangeLog.pruneOlderThanHours(RETENTION_HOURS);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Error polling change_log: {0}", e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Change log poll failed", e);
+        }
+    }
+
+    private Map<String, Map<Integer, ChangeLog.Operation>> readChanges() throws SQLException {
+        Map<String, Map<Integer, ChangeLog.Operation>> changes = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        long from = gaps.isEmpty() ? lastSeq : gaps.firstKey() - 1;
+        List<ChangeLog.Change> batch;
+        do {
+            batch = ChangeLog.readSince(from, BATCH_SIZE);
+            for (ChangeLog.Change change : batch) {
+                long seq = change.getSeq();
+                if (seq <= lastSeq && gaps.remove(seq) == null) {
+                    continue;
+                }
+                if (seq > lastSeq) {
+                    if (seq - lastSeq - 1 <= MAX_TRACKED_GAP) {
+                        for (long missing = lastSeq + 1; missing < seq; missing++) {
+                            gaps.put(missing, now);
+                        }
+                    }
+                    lastSeq = seq;
+                }
+                changes.computeIfAbsent(change.getEntity(), e -> new LinkedHashMap<>())
+                        .put(change.getEntityId(), change.getOperation());
+            }
+            if (!batch.isEmpty()) {
+                from = batch.get(batch.size() - 1).getSeq();
+            }
+        } while (batch.size() == BATCH_SIZE);
+        gaps.values().removeIf(noticed -> now - noticed > GAP_TIMEOUT_NANOS);
+        return changes;
+    }
+
+    private static void invalidateCaches(Map<Integer, ChangeLog.Operation> userChanges) {
+        if (userChanges == null) {
+            return;
+        }
+        for (Map.Entry<Integer, ChangeLog.Operation> entry : userChanges.entrySet()) {
+            if (entry.getValue() == ChangeLog.Operation.DELETE) {
+                EntityCaches.invalidateUser(entry.getKey());
+            } else {
+                EntityCaches.USERS.invalidate(entry.getKey());
+            }
+        }
+    }
+
+    private void dispatch(String entity, Map<Integer, ChangeLog.Operation> changes) {
+        for (Listener listener : listeners.getOrDefault(entity, List.of())) {
+            try {
+                listener.changed(changes);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Change listener for " + entity + " failed", e);
+            }
+        }
+    }
+}
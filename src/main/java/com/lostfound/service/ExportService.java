@@ -0,0 +1,291 @@
+package com.lostfound.service;
+
+// Streams reports and users from the database straight into CSV or JSON files, optionally gzip-compressed.
+import com.lostfound.dao.ResultStreams;
+import com.lostfound.dao.UserDAO;
+import com.lostfound.model.ReportDetails;
+import com.lostfound.model.User;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+public class ExportService {
+    private static final Logger LOGGER = Logger.getLogger(ExportService.class.getName());
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    private static final String[] REPORT_COLUMNS = {"report_id", "item_name", "status", "location", "user_name", "user_contact", "report_date"};
+    // Passwords are never exported.
+    private static final String[] USER_COLUMNS = {"user_id", "name", "email", "role", "contact"};
+
+    public enum Format {
+        CSV("csv"), JSON("json");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    // Receives progress from the exporting thread and is polled for cancellation between rows.
+    public interface Progress {
+        void rowsWritten(long rows);
+
+        boolean isCancelled();
+    }
+
+    private final ReportService reportService;
+    private final UserDAO userDAO;
+
+    public ExportService() throws SQLException {
+        reportService = new ReportService();
+        userDAO = new UserDAO();
+    }
+
+    public long exportReports(Path target, Format format, boolean gzip, Progress progress)
+            throws IOException, SQLException {
+        LOGGER.log(Level.INFO, "Exporting reports to {0}", target);
+        return export(target, format, gzip, REPORT_COLUMNS, progress, sink ->
+                reportService.forEachReportDetails(ResultStreams.DEFAULT_FETCH_SIZE,
+                        report -> sink.write(reportValues(report))));
+    }
+
+    public long exportUsers(Path target, Format format, boolean gzip, Progress progress)
+            throws IOException, SQLException {
+        LOGGER.log(Level.INFO, "Exporting users to {0}", target);
+        return export(target, format, gzip, USER_COLUMNS, progress, sink ->
+                userDAO.forEachUser(ResultStreams.DEFAULT_FETCH_SIZE, user -> sink.write(userValues(user))));
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        long read(RowSink sink) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void write(Object[] values);
+    }
+
+    // Writes to a .part file next to the target and moves it into place only once every row is written,
+    // so a cancelled or failed export never leaves a truncated file under the requested name.
+    private long export(Path target, Format format, boolean gzip, String[] columns, Progress progress,
+                        RowSource source) throws IOException, SQLException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        long[] written = {0};
+        long start = System.currentTimeMillis();
+        boolean complete = false;
+        try {
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 Writer out = openWriter(channel, gzip)) {
+                RecordWriter writer = format == Format.JSON
+                        ? new JsonRecordWriter(out, columns)
+                        : new CsvRecordWriter(out, columns);
+                writer.begin();
+                source.read(values -> {
+                    if (progress != null && progress.isCancelled()) {
+                        throw new CancellationException("Export cancelled");
+                    }
+                    try {
+                        writer.write(values);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (++written[0] % PROGRESS_INTERVAL == 0 && progress != null) {
+                        progress.rowsWritten(written[0]);
+                    }
+                });
+                writer.end();
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            complete = true;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(partial);
+            }
+        }
+        if (progress != null) {
+            progress.rowsWritten(written[0]);
+        }
+        LOGGER.log(Level.INFO, "Exported {0} rows to {1} in {2} ms",
+                new Object[]{written[0], target, System.currentTimeMillis() - start});
+        return written[0];
+    }
+
+    private Writer openWriter(FileChannel channel, boolean gzip) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        if (gzip) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new OutputStreamWriter(new BufferedOutputStream(out, BUFFER_SIZE), StandardCharsets.UTF_8);
+    }
+
+    private static Object[] reportValues(ReportDetails report) {
+        return new Object[]{
+                report.getReportId(),
+                report.getItemName(),
+                report.getStatus(),
+                report.getLocation(),
+                report.getUserName(),
+                report.getUserContact(),
+                report.getReportDate()
+        };
+    }
+
+    private static Object[] userValues(User user) {
+        return new Object[]{
+                user.getUserId(),
+                user.getName(),
+                user.getEmail(),
+                user.getRole(),
+                user.getContact()
+        };
+    }
+
+    private abstract static class RecordWriter {
+        protected final Writer out;
+        protected final String[] columns;
+
+        RecordWriter(Writer out, String[] columns) {
+            this.out = out;
+            this.columns = columns;
+        }
+
+        abstract void begin() throws IOException;
+
+        abstract void write(Object[] values) throws IOException;
+
+        abstract void end() throws IOException;
+    }
+
+    // RFC 4180: fields with a comma, quote or line break are quoted and embedded quotes doubled.
+    private static class CsvRecordWriter extends RecordWriter {
+        CsvRecordWriter(Writer out, String[] columns) {
+            super(out, columns);
+        }
+
+        @Override
+        void begin() throws IOException {
+            write(columns);
+        }
+
+        @Override
+        void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String value = format(values[i]);
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    out.write('"');
+                    out.write(value.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(value);
+                }
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        void end() {
+        }
+
+        private static String format(Object value) {
+            if (value == null) {
+                return "";
+            }
+            return value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime().toString() : value.toString();
+        }
+    }
+
+    // A JSON array of objects, one per line, keyed by column name.
+    private static class JsonRecordWriter extends RecordWriter {
+        private boolean first = true;
+
+        JsonRecordWriter(Writer out, String[] columns) {
+            super(out, columns);
+        }
+
+        @Override
+        void begin() throws IOException {
+            out.write('[');
+        }
+
+        @Override
+        void write(Object[] values) throws IOException {
+            out.write(first ? "\n  {" : ",\n  {");
+            first = false;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeString(columns[i]);
+                out.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Number) {
+                    out.write(value.toString());
+                } else if (value instanceof Timestamp) {
+                    writeString(((Timestamp) value).toLocalDateTime().toString());
+                } else {
+                    writeString(value.toString());
+                }
+            }
+            out.write('}');
+        }
+
+        @Override
+        void end() throws IOException {
+            out.write(first ? "]\n" : "\n]\n");
+        }
+
+        private void writeString(String value) throws IOException {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    }
+}
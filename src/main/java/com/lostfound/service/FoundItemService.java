@@ -2,8 +2,12 @@ package com.lostfound.service;
 
 // Service layer for managing found item operations.
 import com.lostfound.config.DBConnection;
+import com.lostfound.dao.BatchWriter;
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.EntityCaches;
 import com.lostfound.model.FoundItem;
 import java.sql.*;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -15,25 +19,56 @@ public class FoundItemService {
     }
 
     public boolean createFoundItem(FoundItem foundItem) throws SQLException {
-        LOGGER.log(Level.INFO, "Creating found item for itemId: {0}", foundItem.getItemId());
         try (Connection conn = DBConnection.getConnection()) {
-            String sql = "INSERT INTO found_item (Item_ID, Found_Location, Found_Date, Storage_Location, Additional_Details, Image_Path) " +
-                    "VALUES (?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setInt(1, foundItem.getItemId());
-                stmt.setString(2, foundItem.getFoundLocation());
-                stmt.setDate(3, foundItem.getFoundDate());
-                stmt.setString(4, foundItem.getStorageLocation());
-                stmt.setString(5, foundItem.getAdditionalDetails());
-                stmt.setString(6, foundItem.getImagePath());
-                int rows = stmt.executeUpdate();
-                LOGGER.log(Level.INFO, "Inserted found item, rows affected: {0}", rows);
-                return rows > 0;
-            }
+            boolean created = createFoundItem(conn, foundItem);
+            ChangeVersion.bump();
+            return created;
+        }
+    }
+
+    // Inserts the found item on the caller's connection so it can take part in the caller's transaction.
+    public boolean createFoundItem(Connection conn, FoundItem foundItem) throws SQLException {
+        LOGGER.log(Level.INFO, "Creating found item for itemId: {0}", foundItem.getItemId());
+        String sql = "INSERT INTO found_item (Item_ID, Found_Location, Found_Date, Storage_Location, Additional_Details, Image_Path) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, foundItem.getItemId());
+            stmt.setString(2, foundItem.getFoundLocation());
+            stmt.setDate(3, foundItem.getFoundDate());
+            stmt.setString(4, foundItem.getStorageLocation());
+            stmt.setString(5, foundItem.getAdditionalDetails());
+            stmt.setString(6, foundItem.getImagePath());
+            int rows = stmt.executeUpdate();
+            EntityCaches.FOUND_ITEMS.invalidate(foundItem.getItemId());
+            LOGGER.log(Level.INFO, "Inserted found item, rows affected: {0}", rows);
+            return rows > 0;
+        }
+    }
+
+    // Batched variant of createFoundItem on the caller's connection; returns the new Found_Item_IDs in list order.
+    public int[] createFoundItems(Connection conn, List<FoundItem> foundItems, int batchSize) throws SQLException {
+        String sql = "INSERT INTO found_item (Item_ID, Found_Location, Found_Date, Storage_Location, Additional_Details, Image_Path) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+        int[] ids = BatchWriter.insert(conn, sql, foundItems, batchSize, (stmt, foundItem) -> {
+            stmt.setInt(1, foundItem.getItemId());
+            stmt.setString(2, foundItem.getFoundLocation());
+            stmt.setDate(3, foundItem.getFoundDate());
+            stmt.setString(4, foundItem.getStorageLocation());
+            stmt.setString(5, foundItem.getAdditionalDetails());
+            stmt.setString(6, foundItem.getImagePath());
+        });
+        for (FoundItem foundItem : foundItems) {
+            EntityCaches.FOUND_ITEMS.invalidate(foundItem.getItemId());
         }
+        LOGGER.log(Level.INFO, "Inserted {0} found items", ids.length);
+        return ids;
     }
 
     public FoundItem getFoundItemDetails(int itemId) throws SQLException {
+        return EntityCaches.FOUND_ITEMS.get(itemId, this::loadFoundItemDetails);
+    }
+
+    private FoundItem loadFoundItemDetails(int itemId) throws SQLException {
         LOGGER.log(Level.INFO, "Fetching found item details for itemId: {0}", itemId);
         try (Connection conn = DBConnection.getConnection()) {
             String sql = "SELECT * FROM found_item WHERE Item_ID = ?";
@@ -0,0 +1,519 @@
+package com.lostfound.service;
+
+// Ranked full-text index over documents made of weighted text fields (see TextAnalyzer). Each term's postings
+// are (slot delta, weighted term frequency) pairs varint-encoded into one growing byte[], appended as slots
+// increase. Queries are scored with BM25; every query term also matches dictionary terms within a small edit
+// distance, at a lower weight per edit, so a misspelled word still finds its reports. Removed documents are
+// skipped, though still counted in document frequencies, until enough pile up to compact. Searches share a
+// read lock and updates take the write lock.
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public final class FullTextIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Score multiplier per edit for fuzzy matches.
+    private static final double FUZZY_WEIGHT = 0.5;
+    // Longer terms are only matched exactly.
+    private static final int MAX_FUZZY_LENGTH = 32;
+    private static final int MIN_COMPACT_REMOVED = 1024;
+    // Per-slot score accumulators, reused across searches on a thread and left all zero after each one.
+    private static final ThreadLocal<float[][]> SCRATCH = ThreadLocal.withInitial(() -> new float[2][0]);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Documents by slot; the length is -1 once removed.
+    private int slotCount;
+    private int[] docIds = new int[1024];
+    private int[] docLengths = new int[1024];
+    private LongIntTable slotsByDoc = new LongIntTable();
+    private int liveCount;
+    private long totalLength;
+    private int removed;
+    // Terms by term ID.
+    private Map<String, Integer> termIds;
+    private int termCount;
+    private String[] terms;
+    private long[] termMasks;
+    private byte[][] postings;
+    private int[] postingBytes;
+    private int[] lastSlots;
+    private int[] docFreqs;
+    private int[][] termsByLength;
+    private int[] termsByLengthSizes;
+
+    public FullTextIndex() {
+        resetTerms();
+    }
+
+    // Indexes the fields under docId, replacing any previous version; each occurrence of a term counts the
+    // weight of its field.
+    public void add(int docId, String[] fields, int[] weights) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (int field = 0; field < fields.length; field++) {
+            for (String term : TextAnalyzer.analyze(fields[field])) {
+                frequencies.merge(term, weights[field], Integer::sum);
+                length += weights[field];
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            addLocked(docId, length, frequencies);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return termCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The best `limit` documents for the query, highest score first; ties go to the higher docId. A document
+    // scores for each query term by its best exact or fuzzy match, so it need not contain every term.
+    public Hits search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty() || liveCount == 0 || limit <= 0) {
+                return new Hits(new int[0], new float[0]);
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveCount);
+            float[][] scratch = SCRATCH.get();
+            if (scratch[0].length < slotCount) {
+                scratch[0] = new float[slotCount + (slotCount >> 3)];
+                scratch[1] = new float[scratch[0].length];
+            }
+            float[] scores = scratch[0];
+            float[] termScores = scratch[1];
+            int[] touched = new int[64];
+            int touchedCount = 0;
+            int[] termTouched = new int[64];
+            for (String queryTerm : queryTerms) {
+                int termTouchedCount = 0;
+                for (long variant : expand(queryTerm)) {
+                    int termId = (int) variant;
+                    int edits = (int) (variant >>> 32);
+                    double weight = Math.pow(FUZZY_WEIGHT, edits) * idf(docFreqs[termId]);
+                    PostingCursor cursor = new PostingCursor(postings[termId], postingBytes[termId]);
+                    while (cursor.next()) {
+                        int slot = cursor.slot;
+                        if (docLengths[slot] < 0) {
+                            continue;
+                        }
+                        double norm = K1 * (1 - B + B * docLengths[slot] / averageLength);
+                        float score = (float) (weight * cursor.frequency * (K1 + 1) / (cursor.frequency + norm));
+                        if (score > termScores[slot]) {
+                            if (termScores[slot] == 0) {
+                                if (termTouchedCount == termTouched.length) {
+                                    termTouched = Arrays.copyOf(termTouched, termTouchedCount * 2);
+                                }
+                                termTouched[termTouchedCount++] = slot;
+                            }
+                            termScores[slot] = score;
+                        }
+                    }
+                }
+                for (int i = 0; i < termTouchedCount; i++) {
+                    int slot = termTouched[i];
+                    if (scores[slot] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = slot;
+                    }
+                    scores[slot] += termScores[slot];
+                    termScores[slot] = 0;
+                }
+            }
+            Hits hits = topHits(scores, touched, touchedCount, limit);
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double idf(int docFreq) {
+        double df = Math.min(docFreq, liveCount);
+        return Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    // Dictionary terms matching the query term, each packed as (edits << 32 | termId). Up to one edit for
+    // terms of three to five characters and two for longer ones, counting an adjacent transposition as one.
+    private long[] expand(String term) {
+        long[] variants = new long[4];
+        int count = 0;
+        Integer exact = termIds.get(term);
+        if (exact != null) {
+            variants[count++] = exact;
+        }
+        int maxEdits = term.length() <= 2 ? 0 : term.length() <= 5 ? 1 : 2;
+        if (maxEdits > 0 && term.length() <= MAX_FUZZY_LENGTH) {
+            long mask = charMask(term);
+            int from = Math.max(1, term.length() - maxEdits);
+            int to = Math.min(MAX_FUZZY_LENGTH, term.length() + maxEdits);
+            for (int length = from; length <= to; length++) {
+                int[] candidates = termsByLength[length];
+                for (int i = 0; i < termsByLengthSizes[length]; i++) {
+                    int termId = candidates[i];
+                    // Each edit changes at most two bits of the character mask; cheaper than the distance.
+                    if ((exact != null && termId == exact) || Long.bitCount(mask ^ termMasks[termId]) > 2 * maxEdits) {
+                        continue;
+                    }
+                    int edits = editDistance(term, terms[termId], maxEdits);
+                    if (edits <= maxEdits) {
+                        if (count == variants.length) {
+                            variants = Arrays.copyOf(variants, count * 2);
+                        }
+                        variants[count++] = ((long) edits << 32) | termId;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(variants, count);
+    }
+
+    // Optimal string alignment distance, or max + 1 as soon as it must exceed max.
+    private static int editDistance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+
+    private static long charMask(String term) {
+        long mask = 0;
+        for (int i = 0; i < term.length(); i++) {
+            mask |= 1L << (term.charAt(i) & 63);
+        }
+        return mask;
+    }
+
+    // Keeps the best `limit` slots in a min-heap, then returns them best first.
+    private Hits topHits(float[] scores, int[] slots, int count, int limit) {
+        int[] heap = new int[Math.min(limit, count)];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = slots[i];
+            if (size < heap.length) {
+                heap[size] = slot;
+                siftUp(heap, size++, scores);
+            } else if (worse(heap[0], slot, scores)) {
+                heap[0] = slot;
+                siftDown(heap, size, scores);
+            }
+        }
+        int[] hitIds = new int[size];
+        float[] hitScores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = heap[0];
+            hitIds[i] = docIds[slot];
+            hitScores[i] = scores[slot];
+            heap[0] = heap[--size];
+            siftDown(heap, size, scores);
+        }
+        return new Hits(hitIds, hitScores);
+    }
+
+    private boolean worse(int a, int b, float[] scores) {
+        return scores[a] != scores[b] ? scores[a] < scores[b] : docIds[a] < docIds[b];
+    }
+
+    private void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!worse(heap[index], heap[parent], scores)) {
+                return;
+            }
+            int swap = heap[index];
+            heap[index] = heap[parent];
+            heap[parent] = swap;
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && worse(heap[child + 1], heap[child], scores)) {
+                child++;
+            }
+            if (!worse(heap[child], heap[index], scores)) {
+                return;
+            }
+            int swap = heap[index];
+            heap[index] = heap[child];
+            heap[child] = swap;
+            index = child;
+        }
+    }
+
+    private void addLocked(int docId, int length, Map<String, Integer> frequencies) {
+        if (slotCount == docIds.length) {
+            int capacity = docIds.length + (docIds.length >> 1);
+            docIds = Arrays.copyOf(docIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+        int slot = slotCount++;
+        docIds[slot] = docId;
+        docLengths[slot] = length;
+        slotsByDoc.put(docId, slot);
+        liveCount++;
+        totalLength += length;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            appendPosting(termId(entry.getKey()), slot, entry.getValue());
+        }
+    }
+
+    // Replacing a document also leaves its old slot behind, so adds check this as well as removes.
+    private void compactIfNeeded() {
+        if (removed >= MIN_COMPACT_REMOVED && removed * 4 > slotCount) {
+            compact();
+        }
+    }
+
+    private void removeLocked(int docId) {
+        int slot = slotsByDoc.remove(docId);
+        if (slot >= 0) {
+            liveCount--;
+            totalLength -= docLengths[slot];
+            docLengths[slot] = -1;
+            removed++;
+        }
+    }
+
+    private int termId(String term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        if (termCount == terms.length) {
+            int capacity = terms.length * 2;
+            terms = Arrays.copyOf(terms, capacity);
+            termMasks = Arrays.copyOf(termMasks, capacity);
+            postings = Arrays.copyOf(postings, capacity);
+            postingBytes = Arrays.copyOf(postingBytes, capacity);
+            lastSlots = Arrays.copyOf(lastSlots, capacity);
+            docFreqs = Arrays.copyOf(docFreqs, capacity);
+        }
+        int termId = termCount++;
+        termIds.put(term, termId);
+        terms[termId] = term;
+        termMasks[termId] = charMask(term);
+        postings[termId] = new byte[8];
+        int length = term.length();
+        if (length <= MAX_FUZZY_LENGTH) {
+            int[] sameLength = termsByLength[length];
+            if (termsByLengthSizes[length] == sameLength.length) {
+                sameLength = Arrays.copyOf(sameLength, sameLength.length * 2);
+                termsByLength[length] = sameLength;
+            }
+            sameLength[termsByLengthSizes[length]++] = termId;
+        }
+        return termId;
+    }
+
+    private void appendPosting(int termId, int slot, int frequency) {
+        byte[] data = postings[termId];
+        if (postingBytes[termId] + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, postingBytes[termId] + 10));
+            postings[termId] = data;
+        }
+        int position = writeVarint(data, postingBytes[termId], slot - lastSlots[termId]);
+        postingBytes[termId] = writeVarint(data, position, frequency);
+        lastSlots[termId] = slot;
+        docFreqs[termId]++;
+    }
+
+    private static int writeVarint(byte[] data, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            data[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[position++] = (byte) value;
+        return position;
+    }
+
+    private void resetTerms() {
+        termIds = new HashMap<>();
+        termCount = 0;
+        terms = new String[1024];
+        termMasks = new long[1024];
+        postings = new byte[1024][];
+        postingBytes = new int[1024];
+        lastSlots = new int[1024];
+        docFreqs = new int[1024];
+        termsByLength = new int[MAX_FUZZY_LENGTH + 1][];
+        termsByLengthSizes = new int[MAX_FUZZY_LENGTH + 1];
+        for (int length = 0; length <= MAX_FUZZY_LENGTH; length++) {
+            termsByLength[length] = new int[16];
+        }
+    }
+
+    // Drops removed documents. Live slots are renumbered densely in their old order, so every list stays
+    // sorted, and terms left without documents leave the dictionary.
+    private void compact() {
+        int[] newSlots = new int[slotCount];
+        int[] newDocIds = new int[Math.max(1024, liveCount)];
+        int[] newLengths = new int[newDocIds.length];
+        LongIntTable newSlotsByDoc = new LongIntTable();
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (docLengths[slot] < 0) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = live;
+            newDocIds[live] = docIds[slot];
+            newLengths[live] = docLengths[slot];
+            newSlotsByDoc.put(docIds[slot], live);
+            live++;
+        }
+        int oldTermCount = termCount;
+        String[] oldTerms = terms;
+        byte[][] oldPostings = postings;
+        int[] oldPostingBytes = postingBytes;
+        resetTerms();
+        for (int oldId = 0; oldId < oldTermCount; oldId++) {
+            PostingCursor cursor = new PostingCursor(oldPostings[oldId], oldPostingBytes[oldId]);
+            int termId = -1;
+            while (cursor.next()) {
+                int slot = newSlots[cursor.slot];
+                if (slot < 0) {
+                    continue;
+                }
+                if (termId < 0) {
+                    termId = termId(oldTerms[oldId]);
+                }
+                appendPosting(termId, slot, cursor.frequency);
+            }
+        }
+        slotCount = live;
+        docIds = newDocIds;
+        docLengths = newLengths;
+        slotsByDoc = newSlotsByDoc;
+        removed = 0;
+    }
+
+    // Decodes one term's postings in slot order.
+    private static final class PostingCursor {
+        private final byte[] data;
+        private final int end;
+        private int position;
+        private int slot;
+        private int frequency;
+
+        PostingCursor(byte[] data, int end) {
+            this.data = data;
+            this.end = end;
+        }
+
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            slot += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    // Matching documents, best first.
+    public static final class Hits {
+        private final int[] docIds;
+        private final float[] scores;
+
+        Hits(int[] docIds, float[] scores) {
+            this.docIds = docIds;
+            this.scores = scores;
+        }
+
+        public int size() {
+            return docIds.length;
+        }
+
+        public int getDocId(int index) {
+            return docIds[index];
+        }
+
+        public float getScore(int index) {
+            return scores[index];
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package com.lostfound.service;
+
+// Bulk-imports lost/found intake records from CSV. A reader thread parses the file while the calling thread
+// validates and writes chunks through the batched DAO inserts, one transaction per chunk. Each commit also
+// records how many records of the file are done, so re-running a failed or cancelled import resumes where it stopped.
+import com.lostfound.config.DBConnection;
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.InClause;
+import com.lostfound.dao.LostItemDAO;
+import com.lostfound.dao.ReportDAO;
+import com.lostfound.model.FoundItem;
+import com.lostfound.model.ImportResult;
+import com.lostfound.model.Item;
+import com.lostfound.model.LostItem;
+import com.lostfound.model.Report;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ImportService {
+    private static final Logger LOGGER = Logger.getLogger(ImportService.class.getName());
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    // Bounds the rows held in memory and written in one transaction.
+    public static final int MAX_CHUNK_SIZE = 5000;
+    private static final String[] REQUIRED_COLUMNS = {"type", "name", "description", "user_id", "location"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd[ HH:mm[:ss]]");
+    private static final Object END_OF_FILE = new Object();
+
+    private final ItemService itemService;
+    private final FoundItemService foundItemService;
+    private final LostItemDAO lostItemDAO;
+    private final ReportDAO reportDAO;
+
+    public ImportService() throws SQLException {
+        itemService = new ItemService();
+        foundItemService = new FoundItemService();
+        lostItemDAO = new LostItemDAO();
+        reportDAO = new ReportDAO();
+    }
+
+    // Called on the importing thread after each committed chunk; cancellation takes effect between chunks.
+    public interface Progress {
+        void recordsProcessed(long processed, long imported, long rejected);
+
+        boolean isCancelled();
+    }
+
+    // Expected header: type,name,description,user_id,location and optionally date,location_date,
+    // storage_location,details,image_path. Column order does not matter.
+    public ImportResult importFile(Path source, int chunkSize, Progress progress) throws IOException, SQLException {
+        int size = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+        String sourceKey = "sha256:" + sha256(source);
+        long committed = loadCheckpoint(sourceKey);
+        LOGGER.log(Level.INFO, "Importing {0} in chunks of {1}, resuming after record {2}",
+                new Object[]{source, size, committed});
+
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(size * 4);
+        Thread reader = new Thread(() -> readRecords(source, queue), "import-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        Path errorPath = source.resolveSibling(source.getFileName() + ".errors.csv");
+        long read = 0;
+        long imported = 0;
+        long rejected = 0;
+        boolean cancelled = false;
+        try (ErrorReport errors = new ErrorReport(errorPath, committed > 0)) {
+            Map<String, Integer> columns = headerColumns(take(queue));
+            List<RawRecord> chunk = new ArrayList<>(size);
+            boolean end = false;
+            while (!end) {
+                Object next = take(queue);
+                if (next == END_OF_FILE) {
+                    end = true;
+                } else if (++read > committed) {
+                    chunk.add((RawRecord) next);
+                }
+                if (chunk.size() == size || (end && !chunk.isEmpty())) {
+                    ChunkOutcome outcome = writeChunk(sourceKey, read, columns, chunk);
+                    errors.write(outcome.errors);
+                    imported += outcome.imported;
+                    rejected += outcome.errors.size();
+                    chunk.clear();
+                    if (progress != null) {
+                        progress.recordsProcessed(read, imported, rejected);
+                        if (progress.isCancelled() && !end) {
+                            cancelled = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        } finally {
+            reader.interrupt();
+        }
+
+        long skipped = Math.min(committed, read);
+        LOGGER.log(Level.INFO, "Import of {0} {1}: {2} read, {3} skipped, {4} imported, {5} rejected",
+                new Object[]{source, cancelled ? "cancelled" : "finished", read, skipped, imported, rejected});
+        return new ImportResult(read, skipped, imported, rejected, Files.exists(errorPath) ? errorPath : null, cancelled);
+    }
+
+    private Object take(BlockingQueue<Object> queue) throws IOException {
+        try {
+            Object next = queue.take();
+            if (next instanceof IOException) {
+                throw (IOException) next;
+            }
+            return next;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        }
+    }
+
+    // Runs on the reader thread: the header row first, then one RawRecord per data row, then END_OF_FILE.
+    private void readRecords(Path source, BlockingQueue<Object> queue) {
+        try (BufferedReader in = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            CsvParser parser = new CsvParser(in);
+            String[] fields;
+            boolean header = true;
+            while ((fields = parser.next()) != null) {
+                if (fields.length == 1 && fields[0].isBlank()) {
+                    continue;
+                }
+                queue.put(header ? fields : new RawRecord(parser.recordLine, fields));
+                header = false;
+            }
+            if (header) {
+                queue.put(new IOException("File is empty"));
+                return;
+            }
+            queue.put(END_OF_FILE);
+        } catch (IOException e) {
+            try {
+                queue.put(e);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Integer> headerColumns(Object header) throws IOException {
+        String[] names = (String[]) header;
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim().toLowerCase(Locale.ROOT);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            columns.put(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("Missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    // Validates the chunk, inserts its valid records and advances the checkpoint in one transaction.
+    private ChunkOutcome writeChunk(String sourceKey, long recordsConsumed, Map<String, Integer> columns,
+                                    List<RawRecord> chunk) throws SQLException {
+        List<String[]> errors = new ArrayList<>();
+        List<IntakeRecord> parsed = new ArrayList<>(chunk.size());
+        for (RawRecord raw : chunk) {
+            try {
+                parsed.add(IntakeRecord.parse(raw, columns));
+            } catch (IllegalArgumentException e) {
+                errors.add(new String[]{String.valueOf(raw.line), e.getMessage(), String.join(",", raw.fields)});
+            }
+        }
+
+        Connection conn = null;
+        try {
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            Set<Integer> userIds = new HashSet<>();
+            for (IntakeRecord record : parsed) {
+                userIds.add(record.userId);
+            }
+            Set<Integer> existingUsers = existingUserIds(conn, userIds);
+            List<IntakeRecord> valid = new ArrayList<>(parsed.size());
+            for (IntakeRecord record : parsed) {
+                if (existingUsers.contains(record.userId)) {
+                    valid.add(record);
+                } else {
+                    errors.add(new String[]{String.valueOf(record.line), "Unknown user_id " + record.userId, record.raw});
+                }
+            }
+
+            if (!valid.isEmpty()) {
+                insertRecords(conn, valid);
+            }
+            saveCheckpoint(conn, sourceKey, recordsConsumed);
+            conn.commit();
+            ChangeVersion.bump();
+            return new ChunkOutcome(valid.size(), errors);
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.log(Level.SEVERE, "Rollback failed", rollbackEx);
+                }
+            }
+            LOGGER.log(Level.SEVERE, "Error importing chunk ending at record {0}: {1}",
+                    new Object[]{recordsConsumed, e.getMessage()});
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException closeEx) {
+                    LOGGER.log(Level.SEVERE, "Error closing connection", closeEx);
+                }
+            }
+        }
+    }
+
+    private Set<Integer> existingUserIds(Connection conn, Set<Integer> userIds) throws SQLException {
+        Set<Integer> existing = new HashSet<>();
+        for (List<Integer> chunk : InClause.chunks(userIds)) {
+            String sql = "SELECT User_ID FROM user WHERE User_ID IN ("
+                    + InClause.placeholders(InClause.bucketSize(chunk.size())) + ")";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                InClause.bind(stmt, 1, chunk);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getInt(1));
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    private void insertRecords(Connection conn, List<IntakeRecord> records) throws SQLException {
+        int batchSize = records.size();
+        List<Item> items = new ArrayList<>(records.size());
+        for (IntakeRecord r : records) {
+            items.add(new Item(0, r.name, r.description, r.type, r.userId, r.type, r.date));
+        }
+        int[] itemIds = itemService.createItems(conn, items, batchSize);
+
+        List<LostItem> lost = new ArrayList<>();
+        List<FoundItem> found = new ArrayList<>();
+        List<Report> reports = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            IntakeRecord r = records.get(i);
+            if ("lost".equals(r.type)) {
+                lost.add(new LostItem(itemIds[i], r.location, r.locationDate, r.details, r.imagePath));
+            } else {
+                found.add(new FoundItem(itemIds[i], r.location, r.locationDate, r.storageLocation, r.details, r.imagePath));
+            }
+            reports.add(new Report(0, r.userId, itemIds[i], r.type, r.date));
+        }
+        lostItemDAO.createLostItems(conn, lost, batchSize);
+        foundItemService.createFoundItems(conn, found, batchSize);
+        reportDAO.createReports(conn, reports, batchSize);
+    }
+
+    private long loadCheckpoint(String sourceKey) throws SQLException {
+        String sql = "SELECT Records_Committed FROM import_checkpoint WHERE Source = ?";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, sourceKey);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error loading import checkpoint: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private void saveCheckpoint(Connection conn, String sourceKey, long recordsCommitted) throws SQLException {
+        String sql = "INSERT INTO import_checkpoint (Source, Records_Committed) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE Records_Committed = VALUES(Records_Committed)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, sourceKey);
+            stmt.setLong(2, recordsCommitted);
+            stmt.executeUpdate();
+        }
+    }
+
+    // Identifies the file by content, so a renamed or moved copy still resumes and a re-run of a finished
+    // file imports nothing twice.
+    private static String sha256(Path source) throws IOException {
+        try (InputStream in = Files.newInputStream(source)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class RawRecord {
+        private final int line;
+        private final String[] fields;
+
+        RawRecord(int line, String[] fields) {
+            this.line = line;
+            this.fields = fields;
+        }
+
+        String get(Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= fields.length) {
+                return null;
+            }
+            String value = fields[index].trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private static final class IntakeRecord {
+        private int line;
+        private String raw;
+        private String type;
+        private String name;
+        private String description;
+        private int userId;
+        private Timestamp date;
+        private String location;
+        private Date locationDate;
+        private String storageLocation;
+        private String details;
+        private String imagePath;
+
+        // Applies the same rules as CreateReportUI; throws IllegalArgumentException with a readable reason.
+        static IntakeRecord parse(RawRecord raw, Map<String, Integer> columns) {
+            IntakeRecord record = new IntakeRecord();
+            record.line = raw.line;
+            record.raw = String.join(",", raw.fields);
+            String type = raw.get(columns, "type");
+            record.type = type == null ? null : type.toLowerCase(Locale.ROOT);
+            if (!"lost".equals(record.type) && !"found".equals(record.type)) {
+                throw new IllegalArgumentException("type must be lost or found");
+            }
+            record.name = required(raw, columns, "name", 255);
+            record.description = required(raw, columns, "description", 65535);
+            record.location = required(raw, columns, "location", 255);
+            try {
+                record.userId = Integer.parseInt(raw.get(columns, "user_id"));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("user_id must be a number");
+            }
+            String date = raw.get(columns, "date");
+            record.date = date == null ? new Timestamp(System.currentTimeMillis()) : Timestamp.valueOf(parseDate(date, "date"));
+            String locationDate = raw.get(columns, "location_date");
+            record.locationDate = Date.valueOf(locationDate == null
+                    ? record.date.toLocalDateTime().toLocalDate()
+                    : parseDate(locationDate, "location_date").toLocalDate());
+            record.storageLocation = optional(raw, columns, "storage_location", 255);
+            record.details = optional(raw, columns, "details", 65535);
+            record.imagePath = optional(raw, columns, "image_path", 255);
+            return record;
+        }
+
+        private static String required(RawRecord raw, Map<String, Integer> columns, String name, int maxLength) {
+            String value = optional(raw, columns, name, maxLength);
+            if (value == null) {
+                throw new IllegalArgumentException(name + " is required");
+            }
+            return value;
+        }
+
+        private static String optional(RawRecord raw, Map<String, Integer> columns, String name, int maxLength) {
+            String value = raw.get(columns, name);
+            if (value != null && value.length() > maxLength) {
+                throw new IllegalArgumentException(name + " is longer than " + maxLength + " characters");
+            }
+            return value;
+        }
+
+        private static LocalDateTime parseDate(String value, String name) {
+            try {
+                TemporalAccessor parsed = DATE_FORMAT.parseBest(value, LocalDateTime::from, LocalDate::from);
+                return parsed instanceof LocalDateTime ? (LocalDateTime) parsed : ((LocalDate) parsed).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(name + " must be yyyy-MM-dd or yyyy-MM-dd HH:mm[:ss]");
+            }
+        }
+    }
+
+    private static final class ChunkOutcome {
+        private final int imported;
+        private final List<String[]> errors;
+
+        ChunkOutcome(int imported, List<String[]> errors) {
+            this.imported = imported;
+            this.errors = errors;
+        }
+    }
+
+    // Rejected rows go to <file>.errors.csv, appended to when a run resumes. The file is created on first use.
+    private static final class ErrorReport implements AutoCloseable {
+        private final Path path;
+        private final boolean append;
+        private Writer out;
+
+        ErrorReport(Path path, boolean append) throws IOException {
+            this.path = path;
+            this.append = append;
+            if (!append) {
+                Files.deleteIfExists(path);
+            }
+        }
+
+        void write(List<String[]> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                if (out == null) {
+                    boolean exists = Files.exists(path);
+                    out = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.WRITE));
+                    if (!exists || !append) {
+                        writeRow(new String[]{"line", "error", "record"});
+                    }
+                }
+                for (String[] row : rows) {
+                    writeRow(row);
+                }
+                out.flush();
+            } catch (IOException e) {
+                // The records are already committed; losing part of the report is not worth failing the import.
+                LOGGER.log(Level.WARNING, "Could not write import error report {0}: {1}",
+                        new Object[]{path, e.getMessage()});
+            }
+        }
+
+        private void writeRow(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String value = values[i] == null ? "" : values[i];
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    out.write('"');
+                    out.write(value.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(value);
+                }
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+
+    // RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+    private static final class CsvParser {
+        private final Reader in;
+        private int lineNumber = 1;
+        private int recordLine;
+        private int pushback;
+        private boolean hasPushback;
+
+        CsvParser(Reader in) {
+            this.in = in;
+        }
+
+        String[] next() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            recordLine = lineNumber;
+            int c;
+            while ((c = read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        int n = read();
+                        if (n == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            unread(n);
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int n = read();
+                        if (n != '\n') {
+                            unread(n);
+                        }
+                    }
+                    lineNumber++;
+                    fields.add(field.toString());
+                    return fields.toArray(new String[0]);
+                } else {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields.toArray(new String[0]);
+        }
+
+        private int read() throws IOException {
+            if (hasPushback) {
+                hasPushback = false;
+                return pushback;
+            }
+            return in.read();
+        }
+
+        private void unread(int c) {
+            pushback = c;
+            hasPushback = true;
+        }
+    }
+}
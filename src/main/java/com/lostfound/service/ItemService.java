@@ -2,46 +2,86 @@ package com.lostfound.service;
 
 // Service layer for managing item operations.
 import com.lostfound.config.DBConnection;
+import com.lostfound.dao.BatchWriter;
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.EntityCaches;
+import com.lostfound.dao.IdAllocator;
+import com.lostfound.dao.ItemDAO;
 import com.lostfound.model.Item;
+import com.lostfound.model.ItemSummary;
 import java.sql.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 public class ItemService {
     private static final Logger LOGGER = Logger.getLogger(ItemService.class.getName());
+    private static final String INSERT_ITEM =
+            "INSERT INTO item (Item_ID, Name, Description, Category, User_ID, Status, Date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private ItemDAO itemDAO;
 
     public ItemService() throws SQLException {
         LOGGER.log(Level.INFO, "Initializing ItemService");
+        itemDAO = new ItemDAO();
     }
 
     public int createItem(Item item) throws SQLException {
-        LOGGER.log(Level.INFO, "Creating item: {0}", item.getName());
         try (Connection conn = DBConnection.getConnection()) {
-            String sql = "INSERT INTO item (Name, Description, Category, User_ID, Status, Date) VALUES (?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-                stmt.setString(1, item.getName());
-                stmt.setString(2, item.getDescription());
-                stmt.setString(3, item.getCategory());
-                stmt.setInt(4, item.getUserId());
-                stmt.setString(5, item.getStatus());
-                stmt.setTimestamp(6, item.getDate());
-                int rows = stmt.executeUpdate();
-                if (rows > 0) {
-                    try (ResultSet rs = stmt.getGeneratedKeys()) {
-                        if (rs.next()) {
-                            int itemId = rs.getInt(1);
-                            LOGGER.log(Level.INFO, "Created item with ID: {0}", itemId);
-                            return itemId;
-                        }
-                    }
-                }
-                LOGGER.log(Level.WARNING, "Failed to retrieve item ID");
+            int itemId = createItem(conn, item);
+            ChangeVersion.bump();
+            return itemId;
+        }
+    }
+
+    // Inserts the item on the caller's connection so it can take part in the caller's transaction.
+    // The Item_ID comes from IdAllocator and is also set on the item.
+    public int createItem(Connection conn, Item item) throws SQLException {
+        LOGGER.log(Level.INFO, "Creating item: {0}", item.getName());
+        int itemId = IdAllocator.ITEMS.nextId();
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_ITEM)) {
+            bindItem(stmt, itemId, item);
+            if (stmt.executeUpdate() == 0) {
+                LOGGER.log(Level.WARNING, "Failed to create item");
                 return -1;
             }
         }
+        item.setItemId(itemId);
+        EntityCaches.ITEMS.invalidate(itemId);
+        LOGGER.log(Level.INFO, "Created item with ID: {0}", itemId);
+        return itemId;
+    }
+
+    // Batched variant of createItem on the caller's connection; returns the new Item_IDs in list order.
+    public int[] createItems(Connection conn, List<Item> items, int batchSize) throws SQLException {
+        int[] ids = IdAllocator.ITEMS.nextIds(items.size());
+        for (int i = 0; i < ids.length; i++) {
+            items.get(i).setItemId(ids[i]);
+        }
+        BatchWriter.update(conn, INSERT_ITEM, items, batchSize, (stmt, item) -> bindItem(stmt, item.getItemId(), item));
+        for (int itemId : ids) {
+            EntityCaches.ITEMS.invalidate(itemId);
+        }
+        LOGGER.log(Level.INFO, "Created {0} items", ids.length);
+        return ids;
+    }
+
+    private static void bindItem(PreparedStatement stmt, int itemId, Item item) throws SQLException {
+        stmt.setInt(1, itemId);
+        stmt.setString(2, item.getName());
+        stmt.setString(3, item.getDescription());
+        stmt.setString(4, item.getCategory());
+        stmt.setInt(5, item.getUserId());
+        stmt.setString(6, item.getStatus());
+        stmt.setTimestamp(7, item.getDate());
     }
 
     public Item getItemById(int itemId) throws SQLException {
+        return EntityCaches.ITEMS.get(itemId, this::loadItem);
+    }
+
+    private Item loadItem(int itemId) throws SQLException {
         LOGGER.log(Level.INFO, "Fetching item with ID: {0}", itemId);
         try (Connection conn = DBConnection.getConnection()) {
             String sql = "SELECT Item_ID, Name, Description, Category, User_ID, Status, Date FROM item WHERE Item_ID = ?";
@@ -65,4 +105,14 @@ public class ItemService {
         LOGGER.log(Level.WARNING, "Item not found for ID: {0}", itemId);
         return null;
     }
-}
\ No newline at end of file
+
+    public Map<Integer, Item> getItemsByIds(Collection<Integer> itemIds) throws SQLException {
+        LOGGER.log(Level.INFO, "Fetching {0} items by ID", itemIds.size());
+        return itemDAO.getItemsByIds(itemIds);
+    }
+
+    public Map<Integer, ItemSummary> getItemSummariesByIds(Collection<Integer> itemIds) throws SQLException {
+        LOGGER.log(Level.INFO, "Fetching {0} item summaries by ID", itemIds.size());
+        return itemDAO.getItemSummariesByIds(itemIds);
+    }
+}
@@ -0,0 +1,83 @@
+package com.lostfound.service;
+
+// Open-addressing hash map from long keys to non-negative ints, without boxing; get and remove return -1 when
+// absent. Not thread-safe.
+final class LongIntTable {
+    private long[] keys = new long[16];
+    // Value + 1, so 0 marks an empty bucket.
+    private int[] values = new int[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int i = bucket(key, mask); values[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i] - 1;
+            }
+        }
+        return -1;
+    }
+
+    void put(long key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int i = bucket(key, mask);
+        while (values[i] != 0 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == 0) {
+            size++;
+        }
+        keys[i] = key;
+        values[i] = value + 1;
+    }
+
+    // Backward-shift deletion, so probe chains stay unbroken without tombstones.
+    int remove(long key) {
+        int mask = keys.length - 1;
+        int i = bucket(key, mask);
+        while (values[i] != 0 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == 0) {
+            return -1;
+        }
+        int value = values[i] - 1;
+        int hole = i;
+        for (int j = (hole + 1) & mask; values[j] != 0; j = (j + 1) & mask) {
+            int home = bucket(keys[j], mask);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        values[hole] = 0;
+        size--;
+        return value;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                put(oldKeys[i], oldValues[i] - 1);
+            }
+        }
+    }
+
+    private static int bucket(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
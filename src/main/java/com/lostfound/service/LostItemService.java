@@ -1,6 +1,7 @@
 package com.lostfound.service;
 
 // Service layer for managing lost item operations.
+import com.lostfound.dao.EntityCaches;
 import com.lostfound.dao.LostItemDAO;
 import com.lostfound.model.LostItem;
 import java.sql.SQLException;
@@ -40,6 +41,6 @@ public class LostItemService {
 
     public LostItem getLostItemDetails(int itemId) throws SQLException {
         LOGGER.log(Level.INFO, "Fetching lost item details for itemId: {0}", itemId);
-        return lostItemDAO.getLostItemById(itemId);
+        return EntityCaches.LOST_ITEMS.get(itemId, lostItemDAO::getLostItemById);
     }
 }
\ No newline at end of file
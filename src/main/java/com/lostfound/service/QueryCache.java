@@ -0,0 +1,125 @@
+package com.lostfound.service;
+
+// Caches list query results keyed by query name and parameters. An entry is fresh while ChangeVersion has not
+// moved since it was loaded and it is younger than the TTL; get() reloads stale entries in the caller.
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.SingleFlight;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class QueryCache {
+    // Override with -Dlostfound.queryCache.maxEntries=<entries> and -Dlostfound.queryCache.ttlSeconds=<seconds>.
+    private static final int MAX_ENTRIES = Integer.getInteger("lostfound.queryCache.maxEntries", 256);
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("lostfound.queryCache.ttlSeconds", 60L));
+
+    private static final QueryCache SHARED = new QueryCache();
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws SQLException;
+    }
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final SingleFlight<SingleFlight.VersionedKey<Key>, Object> flights = new SingleFlight<>();
+
+    public static QueryCache shared() {
+        return SHARED;
+    }
+
+    public <T> T get(String query, List<?> params, Loader<T> loader) throws SQLException {
+        Key key = new Key(query, params);
+        long version = ChangeVersion.current();
+        Entry entry = lookup(key);
+        if (entry != null && entry.isFresh()) {
+            hits.incrementAndGet();
+            return cast(entry.value);
+        }
+        misses.incrementAndGet();
+        return load(key, version, loader);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("query cache: %d hits, %d misses, %d queries, %d coalesced",
+                hits.get(), misses.get(), flights.getLoads(), flights.getCoalescedHits());
+    }
+
+    private synchronized Entry lookup(Key key) {
+        return entries.get(key);
+    }
+
+    // Concurrent loads of one key share a single query only if their callers saw the same ChangeVersion, so a
+    // caller that arrives after a write never gets a result read before it. The entry keeps that version, read
+    // before the query ran, so a write during the load leaves it stale.
+    private <T> T load(Key key, long version, Loader<T> loader) throws SQLException {
+        return cast(flights.execute(new SingleFlight.VersionedKey<>(key, version), () -> {
+            T value = loader.load();
+            synchronized (this) {
+                Entry existing = entries.get(key);
+                if (existing == null || existing.version <= version) {
+                    entries.put(key, new Entry(value, version));
+                }
+            }
+            return value;
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private static final class Key {
+        private final String query;
+        private final List<?> params;
+
+        Key(String query, List<?> params) {
+            this.query = query;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return query.equals(other.query) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + params.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long version;
+        private final long loadedAt = System.nanoTime();
+
+        Entry(Object value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+
+        boolean isFresh() {
+            return version == ChangeVersion.current() && System.nanoTime() - loadedAt < TTL_NANOS;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.lostfound.service;
+
+// Flag another thread sets to tell a running search its result is no longer wanted; the search checks it
+// between steps and gives up with CANCELLED_SQL_STATE. A statement already executing is not interrupted.
+public class QueryCancellation {
+    // SQLSTATE of a search given up after cancel(); the same one MySQL reports for KILL QUERY.
+    public static final String CANCELLED_SQL_STATE = "70100";
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
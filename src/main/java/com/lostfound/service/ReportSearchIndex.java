@@ -0,0 +1,69 @@
+package com.lostfound.service;
+
+// Substring search over every report's item name, location and status, backed by a TrigramIndex ranked by
+// report date. Built and kept current from change_log in the background; see BackgroundIndex.
+import com.lostfound.dao.ResultStreams;
+import com.lostfound.model.ReportDetails;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ReportSearchIndex {
+    private static final Logger LOGGER = Logger.getLogger(ReportSearchIndex.class.getName());
+    // Rank of a report without a date; ranks below every dated report.
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final ReportSearchIndex SHARED = new ReportSearchIndex();
+
+    private final BackgroundIndex<TrigramIndex, ReportDetails> index = new BackgroundIndex<>("report search index",
+            this::load, reportIds -> service().getReportDetailsByIds(reportIds), ReportSearchIndex::add,
+            TrigramIndex::remove);
+    // Indexer-thread state.
+    private ReportService reportService;
+
+    public static ReportSearchIndex shared() {
+        return SHARED;
+    }
+
+    // Starts the initial build in the background if it has not run yet or failed last time.
+    public void startIndexing() {
+        index.startIndexing();
+    }
+
+    // The listener runs on the indexer thread once a change_log batch of reports is searchable; re-run a
+    // search from here rather than from ChangeLogPoller, whose listeners can run before the index catches up.
+    public void addListener(ChangeLogPoller.Listener listener) {
+        index.addListener(listener);
+    }
+
+    public void removeListener(ChangeLogPoller.Listener listener) {
+        index.removeListener(listener);
+    }
+
+    // Report IDs matching every term of the query, newest first; see TrigramIndex.search.
+    public TrigramIndex.Hits search(String query) throws SQLException {
+        return index.get().search(query);
+    }
+
+    private ReportService service() throws SQLException {
+        if (reportService == null) {
+            reportService = new ReportService();
+        }
+        return reportService;
+    }
+
+    private TrigramIndex load() throws SQLException {
+        long start = System.nanoTime();
+        TrigramIndex built = new TrigramIndex();
+        // Streamed straight into the index, oldest first, which suits it; new reports then append in order.
+        service().forEachReportDetailsOldestFirst(ResultStreams.DEFAULT_FETCH_SIZE, report -> add(built, report));
+        LOGGER.log(Level.INFO, "Built report search index over {0} reports in {1} ms",
+                new Object[]{built.size(), (System.nanoTime() - start) / 1_000_000});
+        return built;
+    }
+
+    private static void add(TrigramIndex index, ReportDetails report) {
+        index.add(report.getReportId(), report.getReportDate() != null ? report.getReportDate().getTime() : NO_DATE,
+                report.getItemName(), report.getLocation(), report.getStatus());
+    }
+}
@@ -2,30 +2,50 @@ package com.lostfound.service;
 
 // Service layer for managing report operations.
 import com.lostfound.config.DBConnection;
+import com.lostfound.dao.BatchWriter;
+import com.lostfound.dao.ChangeLog;
+import com.lostfound.dao.IdAllocator;
+import com.lostfound.dao.InClause;
+import com.lostfound.dao.ResultStreams;
+import com.lostfound.dao.ResultStreams.RowHandler;
+import com.lostfound.dao.ResultStreams.RowMapper;
+import com.lostfound.model.Page;
+import com.lostfound.model.PageToken;
 import com.lostfound.model.Report;
 import com.lostfound.model.ReportDetails;
+import com.lostfound.model.ReportSummary;
+import com.lostfound.model.ReportText;
+import com.lostfound.model.ScoredReport;
+import com.lostfound.model.SearchResult;
 import com.lostfound.model.User;
+import com.lostfound.model.UserReportSummaries;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class ReportService {
     private static final Logger LOGGER = Logger.getLogger(ReportService.class.getName());
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
 
-    public ReportService() throws SQLException {
-        LOGGER.log(Level.INFO, "ReportService initialized");
-    }
-
-    public List<ReportDetails> getAllReportsWithDetails() throws SQLException {
-        List<ReportDetails> reports = new ArrayList<>();
-        String query = """
+    private static final String REPORT_SELECT =
+            "SELECT r.report_id, r.user_id, r.item_id, r.report_type, r.report_date FROM lostfounddb.reports r";
+    private static final String REPORT_DETAILS_SELECT = """
             SELECT 
                 r.report_id,
                 i.Name AS item_name,
@@ -40,50 +60,85 @@ public class ReportService {
             LEFT JOIN lost_item l ON r.item_id = l.item_id AND r.report_type = 'lost'
             LEFT JOIN found_item f ON r.item_id = f.item_id AND r.report_type = 'found'
         """;
+    private static final String REPORT_TEXT_SELECT = """
+            SELECT
+                r.report_id,
+                i.Name AS item_name,
+                i.Description AS description,
+                COALESCE(l.Additional_Details, f.Additional_Details) AS additional_details
+            FROM lostfounddb.reports r
+            JOIN item i ON r.item_id = i.item_id
+            LEFT JOIN lost_item l ON r.item_id = l.item_id AND r.report_type = 'lost'
+            LEFT JOIN found_item f ON r.item_id = f.item_id AND r.report_type = 'found'
+        """;
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                ReportDetails report = new ReportDetails(
-                        rs.getInt("report_id"),
-                        rs.getString("item_name"),
-                        rs.getString("user_name"),
-                        rs.getString("user_contact"),
-                        rs.getTimestamp("report_date"),
-                        rs.getString("status"),
-                        rs.getString("location")
-                );
-                reports.add(report);
-                LOGGER.log(Level.FINE, "Created ReportDetails: ID={0}, ItemName={1}, Status={2}, Location={3}, UserName={4}, UserContact={5}, Date={6}",
-                        new Object[]{
-                                report.getReportId(),
-                                report.getItemName(),
-                                report.getStatus(),
-                                report.getLocation(),
-                                report.getUserName(),
-                                report.getUserContact(),
-                                report.getReportDate()
-                        });
-            }
+    public ReportService() throws SQLException {
+        LOGGER.log(Level.INFO, "ReportService initialized");
+    }
+
+    public List<ReportDetails> getAllReportsWithDetails() throws SQLException {
+        List<ReportDetails> reports = new ArrayList<>();
+        forEachReportDetails(ResultStreams.DEFAULT_FETCH_SIZE, reports::add);
+        LOGGER.log(Level.INFO, "Fetched {0} reports with details", reports.size());
+        return reports;
+    }
+
+    // Reads every report with item, user and location details without holding them all in memory.
+    public long forEachReportDetails(int fetchSize, RowHandler<? super ReportDetails> handler) throws SQLException {
+        try {
+            return ResultStreams.forEach(REPORT_DETAILS_SELECT, fetchSize, this::mapReportDetails, handler);
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error fetching reports with details: {0}", e.getMessage());
             throw e;
         }
+    }
 
-        LOGGER.log(Level.INFO, "Fetched {0} reports with details", reports.size());
-        return reports;
+    // Same as forEachReportDetails, oldest first, for building ReportSearchIndex.
+    public long forEachReportDetailsOldestFirst(int fetchSize, RowHandler<? super ReportDetails> handler)
+            throws SQLException {
+        String sql = REPORT_DETAILS_SELECT.strip() + " ORDER BY r.report_date ASC, r.report_id ASC";
+        try {
+            return ResultStreams.forEach(sql, fetchSize, this::mapReportDetails, handler);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error fetching reports with details: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // The caller must close the returned stream.
+    public Stream<ReportDetails> streamReportDetails(int fetchSize) throws SQLException {
+        return ResultStreams.stream(REPORT_DETAILS_SELECT, fetchSize, this::mapReportDetails);
+    }
+
+    // Reads the searchable text of every report, for building ReportTextIndex.
+    public long forEachReportText(int fetchSize, RowHandler<? super ReportText> handler) throws SQLException {
+        try {
+            return ResultStreams.forEach(REPORT_TEXT_SELECT, fetchSize, this::mapReportText, handler);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error fetching report texts: {0}", e.getMessage());
+            throw e;
+        }
     }
 
     public boolean createReport(Report report) throws SQLException {
-        String sql = "INSERT INTO lostfounddb.reports (user_id, item_id, report_type, report_date) VALUES (?, ?, ?, ?)";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, report.getUserId());
-            stmt.setInt(2, report.getItemId());
-            stmt.setString(3, report.getReportType());
-            stmt.setTimestamp(4, report.getReportDate());
+        return BatchWriter.inTransaction(conn -> createReport(conn, report));
+    }
+
+    // Inserts the report on the caller's connection so it can take part in the caller's transaction; the caller
+    // commits and bumps ChangeVersion.
+    public boolean createReport(Connection conn, Report report) throws SQLException {
+        String sql = "INSERT INTO lostfounddb.reports (report_id, user_id, item_id, report_type, report_date) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int reportId = IdAllocator.REPORTS.nextId();
+            stmt.setInt(1, reportId);
+            stmt.setInt(2, report.getUserId());
+            stmt.setInt(3, report.getItemId());
+            stmt.setString(4, report.getReportType());
+            stmt.setTimestamp(5, report.getReportDate());
             int rows = stmt.executeUpdate();
+            if (rows > 0) {
+                ChangeLog.record(conn, ChangeLog.REPORT, reportId, ChangeLog.Operation.INSERT);
+            }
             LOGGER.log(Level.INFO, "Created report for item_id: {0}, rows affected: {1}",
                     new Object[]{report.getItemId(), rows});
             return rows > 0;
@@ -105,6 +160,10 @@ public class ReportService {
     }
 
     public List<Report> getReportsByUserId(int userId) throws SQLException {
+        return QueryCache.shared().get("reportsByUserId", List.of(userId), () -> loadReportsByUserId(userId));
+    }
+
+    private List<Report> loadReportsByUserId(int userId) throws SQLException {
         List<Report> reports = new ArrayList<>();
         String sql = "SELECT report_id, user_id, item_id, report_type, report_date FROM lostfounddb.reports WHERE user_id = ?";
         try (Connection conn = DBConnection.getConnection();
@@ -131,40 +190,418 @@ public class ReportService {
         }
         LOGGER.log(Level.INFO, "Fetched {0} reports for user_id: {1}",
                 new Object[]{reports.size(), userId});
-        return reports;
+        return Collections.unmodifiableList(reports);
+    }
+
+    public UserReportSummaries getUserReportSummaries(int userId) throws SQLException {
+        UserReportSummaries summaries = new UserReportSummaries();
+        String sql = """
+            SELECT
+                r.report_id,
+                r.item_id,
+                r.report_type,
+                r.report_date,
+                i.Name AS item_name,
+                COALESCE(l.item_id, f.item_id) AS details_item_id,
+                COALESCE(l.last_seen_location, f.found_location) AS location
+            FROM lostfounddb.reports r
+            JOIN item i ON r.item_id = i.item_id
+            LEFT JOIN lost_item l ON r.item_id = l.item_id AND r.report_type = 'lost'
+            LEFT JOIN found_item f ON r.item_id = f.item_id AND r.report_type = 'found'
+            WHERE r.user_id = ?
+            ORDER BY r.report_id
+        """;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    boolean hasDetails = rs.getObject("details_item_id") != null;
+                    ReportSummary summary = new ReportSummary(
+                            rs.getInt("report_id"),
+                            rs.getInt("item_id"),
+                            rs.getString("item_name"),
+                            rs.getString("report_type"),
+                            rs.getTimestamp("report_date"),
+                            rs.getString("location"),
+                            hasDetails
+                    );
+                    if ("found".equalsIgnoreCase(summary.getReportType())) {
+                        summaries.getFoundReports().add(summary);
+                    } else if ("lost".equalsIgnoreCase(summary.getReportType())) {
+                        summaries.getLostReports().add(summary);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error fetching report summaries for user_id: {0}: {1}",
+                    new Object[]{userId, e.getMessage()});
+            throw e;
+        }
+        LOGGER.log(Level.INFO, "Fetched {0} lost and {1} found report summaries for user_id: {2}",
+                new Object[]{summaries.getLostReports().size(), summaries.getFoundReports().size(), userId});
+        return summaries;
     }
 
     public List<Report> getAllReports() throws SQLException {
+        return QueryCache.shared().get("allReports", List.of(), this::loadAllReports);
+    }
+
+    private List<Report> loadAllReports() throws SQLException {
         List<Report> reports = new ArrayList<>();
-        String sql = "SELECT report_id, user_id, item_id, report_type, report_date FROM lostfounddb.reports";
+        forEachReport(ResultStreams.DEFAULT_FETCH_SIZE, reports::add);
+        LOGGER.log(Level.INFO, "Fetched {0} reports", reports.size());
+        return Collections.unmodifiableList(reports);
+    }
+
+    public long forEachReport(int fetchSize, RowHandler<? super Report> handler) throws SQLException {
+        try {
+            return ResultStreams.forEach(REPORT_SELECT, fetchSize, this::mapReport, handler);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error fetching all reports: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // The caller must close the returned stream.
+    public Stream<Report> streamReports(int fetchSize) throws SQLException {
+        return ResultStreams.stream(REPORT_SELECT, fetchSize, this::mapReport);
+    }
+
+    // Returns one page of reports, newest first; pass null as the token for the first page. Pages bypass
+    // QueryCache: PagedTableModel keeps its own bounded window of them, and caching every page scrolled past
+    // would hold far more rows than that.
+    public Page<Report> getReportsPage(String pageToken, int pageSize) throws SQLException {
+        return fetchPage(REPORT_SELECT, null, List.of(), pageToken, pageSize, this::mapReport,
+                Report::getReportDate, Report::getReportId);
+    }
+
+    // Returns one page of reports with item, user and location details, newest first.
+    public Page<ReportDetails> getReportDetailsPage(String pageToken, int pageSize) throws SQLException {
+        return fetchPage(REPORT_DETAILS_SELECT, null, List.of(), pageToken, pageSize, this::mapReportDetails,
+                ReportDetails::getReportDate, ReportDetails::getReportId);
+    }
+
+    // Reports of one user, newest first, in the same pages as getReportsPage.
+    public Page<Report> getReportsPageByUserId(int userId, String pageToken, int pageSize) throws SQLException {
+        return fetchPage(REPORT_SELECT, "r.user_id = ?", List.of(userId), pageToken, pageSize, this::mapReport,
+                Report::getReportDate, Report::getReportId);
+    }
+
+    // Row counts for sizing paged views.
+    public int countReports() throws SQLException {
+        return QueryCache.shared().get("countReports", List.of(), () -> count(null, List.of()));
+    }
+
+    public int countReportsByUserId(int userId) throws SQLException {
+        return QueryCache.shared().get("countReportsByUserId", List.of(userId),
+                () -> count("user_id = ?", List.of(userId)));
+    }
+
+    // Returns the page token that starts a page at the given row of the newest-first order, so a paged view can
+    // jump there without fetching the rows before it. The skipped rows are read from the (Report_Date, Report_ID)
+    // index only. Null for offset 0 or past the last row.
+    public String getPageTokenAt(int offset) throws SQLException {
+        return pageTokenAt(null, List.of(), offset);
+    }
+
+    public String getPageTokenAtByUserId(int userId, int offset) throws SQLException {
+        return pageTokenAt("user_id = ?", List.of(userId), offset);
+    }
+
+    private int count(String filter, List<Object> params) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM lostfounddb.reports" + (filter != null ? " WHERE " + filter : "");
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (Object param : params) {
+                stmt.setObject(index++, param);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error counting reports: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    private String pageTokenAt(String filter, List<Object> params, int offset) throws SQLException {
+        if (offset <= 0) {
+            return null;
+        }
+        String sql = "SELECT report_date, report_id FROM lostfounddb.reports"
+                + (filter != null ? " WHERE " + filter : "")
+                + " ORDER BY report_date DESC, report_id DESC LIMIT 1 OFFSET ?";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                Report report = new Report(
-                        rs.getInt("report_id"),
-                        rs.getInt("user_id"),
-                        rs.getInt("item_id"),
-                        rs.getString("report_type"),
-                        rs.getTimestamp("report_date")
-                );
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (Object param : params) {
+                stmt.setObject(index++, param);
+            }
+            stmt.setInt(index, offset - 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new PageToken(true, rs.getTimestamp("report_date"), rs.getInt("report_id")).encode();
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error locating report page at offset {0}: {1}", new Object[]{offset, e.getMessage()});
+            throw e;
+        }
+    }
+
+    // Fetches the given reports for applying change_log deltas; IDs of deleted reports are absent from the map.
+    public Map<Integer, ReportDetails> getReportDetailsByIds(Collection<Integer> reportIds) throws SQLException {
+        return fetchByIds(REPORT_DETAILS_SELECT, reportIds, this::mapReportDetails, ReportDetails::getReportId);
+    }
+
+    public Map<Integer, ReportText> getReportTextsByIds(Collection<Integer> reportIds) throws SQLException {
+        return fetchByIds(REPORT_TEXT_SELECT, reportIds, this::mapReportText, ReportText::getReportId);
+    }
+
+    private <T> Map<Integer, T> fetchByIds(String select, Collection<Integer> reportIds, RowMapper<T> mapper,
+                                           ToIntFunction<T> idOf) throws SQLException {
+        Map<Integer, T> rows = new HashMap<>();
+        List<List<Integer>> chunks = InClause.chunks(reportIds);
+        if (chunks.isEmpty()) {
+            return rows;
+        }
+        try (Connection conn = DBConnection.getConnection()) {
+            for (List<Integer> chunk : chunks) {
+                String sql = select + " WHERE r.report_id IN ("
+                        + InClause.placeholders(InClause.bucketSize(chunk.size())) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    InClause.bind(stmt, 1, chunk);
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            T row = mapper.map(rs);
+                            rows.put(idOf.applyAsInt(row), row);
+                        }
+                    }
+                }
+            }
+            LOGGER.log(Level.INFO, "Fetched {0} reports by ID in {1} queries", new Object[]{rows.size(), chunks.size()});
+            return rows;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error fetching reports by ID: {0}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // Matches every whitespace-separated term of the query, case- and accent-insensitively, as a substring of
+    // the item name, location or status. Results are newest first and paged with the returned cursor.
+    public SearchResult<ReportDetails> searchReports(String query, int limit, String cursor) throws SQLException {
+        return searchReports(query, limit, cursor, null);
+    }
+
+    // Same as searchReports, but gives up with CANCELLED_SQL_STATE if the cancellation is set once the page has
+    // been read. Matching runs on ReportSearchIndex in memory; only the returned page is read from the database,
+    // and that read is not interrupted.
+    public SearchResult<ReportDetails> searchReports(String query, int limit, String cursor,
+                                                     QueryCancellation cancellation) throws SQLException {
+        int size = Math.max(1, Math.min(limit > 0 ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        TrigramIndex.Hits hits = ReportSearchIndex.shared().search(query);
+        PageToken token = cursor == null || cursor.isBlank() ? null : PageToken.decode(cursor);
+        int start;
+        int end;
+        if (token == null) {
+            start = 0;
+            end = Math.min(size, hits.size());
+        } else if (token.isForward()) {
+            start = firstHitOlderThan(hits, token, false);
+            end = Math.min(start + size, hits.size());
+        } else {
+            end = firstHitOlderThan(hits, token, true);
+            start = Math.max(0, end - size);
+        }
+
+        List<Integer> pageIds = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            pageIds.add(hits.getDocId(i));
+        }
+        Map<Integer, ReportDetails> details = getReportDetailsByIds(pageIds);
+        if (cancellation != null && cancellation.isCancelled()) {
+            throw new SQLException("Search cancelled", QueryCancellation.CANCELLED_SQL_STATE);
+        }
+        List<ReportDetails> reports = new ArrayList<>(pageIds.size());
+        for (int reportId : pageIds) {
+            ReportDetails report = details.get(reportId);
+            if (report != null) {
                 reports.add(report);
-                LOGGER.log(Level.FINE, "Fetched report ID: {0}", report.getReportId());
+            }
+        }
+
+        String nextToken = end < hits.size()
+                ? new PageToken(true, new Timestamp(hits.getRank(end - 1)), hits.getDocId(end - 1)).encode()
+                : null;
+        String previousToken = start > 0 && start < end
+                ? new PageToken(false, new Timestamp(hits.getRank(start)), hits.getDocId(start)).encode()
+                : null;
+        LOGGER.log(Level.INFO, "Search for \"{0}\" matched {1} reports", new Object[]{query, hits.size()});
+        return new SearchResult<>(reports, nextToken, previousToken, hits.size());
+    }
+
+    // Ranks reports by how well their item name, description and additional details match the query (BM25),
+    // tolerating a typo or two per word, and returns the best `limit`, highest score first. Unlike
+    // searchReports, a report need not match every word.
+    public List<ScoredReport> searchReportsRanked(String query, int limit) throws SQLException {
+        int size = Math.max(1, Math.min(limit > 0 ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        FullTextIndex.Hits hits = ReportTextIndex.shared().search(query, size);
+        List<Integer> reportIds = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            reportIds.add(hits.getDocId(i));
+        }
+        Map<Integer, ReportDetails> details = getReportDetailsByIds(reportIds);
+        List<ScoredReport> results = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            ReportDetails report = details.get(hits.getDocId(i));
+            if (report != null) {
+                results.add(new ScoredReport(report, hits.getScore(i)));
+            }
+        }
+        LOGGER.log(Level.INFO, "Ranked search for \"{0}\" returned {1} reports", new Object[]{query, results.size()});
+        return results;
+    }
+
+    // Hits are ordered by (date, ID) descending. Returns the first hit older than the token's key or, with
+    // inclusive set, the first hit that is not newer than it.
+    private static int firstHitOlderThan(TrigramIndex.Hits hits, PageToken token, boolean inclusive) {
+        long date = token.getReportDate().getTime();
+        int reportId = token.getReportId();
+        int low = 0;
+        int high = hits.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long midDate = hits.getRank(mid);
+            int compare = midDate != date ? Long.compare(date, midDate)
+                    : Integer.compare(reportId, hits.getDocId(mid));
+            // compare > 0: the hit is older than the token.
+            if (compare > 0 || (inclusive && compare == 0)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Keyset seek on (report_date, report_id): each page costs one index range scan regardless of its position.
+    private <T> Page<T> fetchPage(String select, String filter, List<Object> filterParams, String pageToken,
+                                  int pageSize, RowMapper<T> mapper, Function<T, Timestamp> dateOf,
+                                  ToIntFunction<T> idOf) throws SQLException {
+        int limit = Math.max(1, Math.min(pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        PageToken token = pageToken == null || pageToken.isBlank() ? null : PageToken.decode(pageToken);
+        boolean backward = token != null && !token.isForward();
+
+        StringBuilder sql = new StringBuilder(select.strip());
+        if (filter != null) {
+            sql.append(" WHERE ").append(filter);
+        }
+        if (token != null) {
+            sql.append(filter != null ? " AND" : " WHERE");
+            sql.append(backward
+                    ? " (r.report_date > ? OR (r.report_date = ? AND r.report_id > ?))"
+                    : " (r.report_date < ? OR (r.report_date = ? AND r.report_id < ?))");
+        }
+        sql.append(backward
+                ? " ORDER BY r.report_date ASC, r.report_id ASC"
+                : " ORDER BY r.report_date DESC, r.report_id DESC");
+        sql.append(" LIMIT ?");
+
+        List<T> rows = new ArrayList<>(limit + 1);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (Object param : filterParams) {
+                stmt.setObject(index++, param);
+            }
+            if (token != null) {
+                stmt.setTimestamp(index++, token.getReportDate());
+                stmt.setTimestamp(index++, token.getReportDate());
+                stmt.setInt(index++, token.getReportId());
+            }
+            stmt.setInt(index, limit + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
             }
         } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error fetching all reports: {0}", e.getMessage());
+            LOGGER.log(Level.SEVERE, "Error fetching report page: {0}", e.getMessage());
             throw e;
         }
-        LOGGER.log(Level.INFO, "Fetched {0} reports", reports.size());
-        return reports;
+
+        boolean more = rows.size() > limit;
+        if (more) {
+            rows.remove(rows.size() - 1);
+        }
+        if (backward) {
+            Collections.reverse(rows);
+        }
+
+        String nextToken = null;
+        String previousToken = null;
+        if (!rows.isEmpty()) {
+            T first = rows.get(0);
+            T last = rows.get(rows.size() - 1);
+            if (backward || more) {
+                nextToken = new PageToken(true, dateOf.apply(last), idOf.applyAsInt(last)).encode();
+            }
+            if (backward ? more : token != null) {
+                previousToken = new PageToken(false, dateOf.apply(first), idOf.applyAsInt(first)).encode();
+            }
+        }
+        LOGGER.log(Level.INFO, "Fetched report page with {0} rows", rows.size());
+        return new Page<>(rows, nextToken, previousToken);
+    }
+
+    private Report mapReport(ResultSet rs) throws SQLException {
+        return new Report(
+                rs.getInt("report_id"),
+                rs.getInt("user_id"),
+                rs.getInt("item_id"),
+                rs.getString("report_type"),
+                rs.getTimestamp("report_date")
+        );
+    }
+
+    private ReportDetails mapReportDetails(ResultSet rs) throws SQLException {
+        return new ReportDetails(
+                rs.getInt("report_id"),
+                rs.getString("item_name"),
+                rs.getString("user_name"),
+                rs.getString("user_contact"),
+                rs.getTimestamp("report_date"),
+                rs.getString("status"),
+                rs.getString("location")
+        );
+    }
+
+    private ReportText mapReportText(ResultSet rs) throws SQLException {
+        return new ReportText(
+                rs.getInt("report_id"),
+                rs.getString("item_name"),
+                rs.getString("description"),
+                rs.getString("additional_details")
+        );
     }
 
     public boolean deleteReport(int reportId) throws SQLException {
         String sql = "DELETE FROM lostfounddb.reports WHERE report_id = ?";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, reportId);
-            int rows = stmt.executeUpdate();
+        try {
+            int rows = BatchWriter.inTransaction(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, reportId);
+                    int deleted = stmt.executeUpdate();
+                    if (deleted > 0) {
+                        ChangeLog.record(conn, ChangeLog.REPORT, reportId, ChangeLog.Operation.DELETE);
+                    }
+                    return deleted;
+                }
+            });
             LOGGER.log(Level.INFO, "Deleted report ID: {0}, rows affected: {1}",
                     new Object[]{reportId, rows});
             return rows > 0;
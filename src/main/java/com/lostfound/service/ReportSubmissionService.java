@@ -0,0 +1,101 @@
+package com.lostfound.service;
+
+// Service layer for submitting a lost or found report as one atomic unit of work.
+import com.lostfound.config.DBConnection;
+import com.lostfound.dao.ChangeVersion;
+import com.lostfound.dao.LostItemDAO;
+import com.lostfound.model.FoundItem;
+import com.lostfound.model.Item;
+import com.lostfound.model.LostItem;
+import com.lostfound.model.Report;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ReportSubmissionService {
+    private static final Logger LOGGER = Logger.getLogger(ReportSubmissionService.class.getName());
+    private ItemService itemService;
+    private LostItemDAO lostItemDAO;
+    private FoundItemService foundItemService;
+    private ReportService reportService;
+
+    public ReportSubmissionService() throws SQLException {
+        itemService = new ItemService();
+        lostItemDAO = new LostItemDAO();
+        foundItemService = new FoundItemService();
+        reportService = new ReportService();
+        LOGGER.log(Level.INFO, "ReportSubmissionService initialized");
+    }
+
+    // Creates the item, its lost_item row and the report in one transaction; returns the new Item_ID.
+    public int submitLostReport(Item item, LostItem lostItem) throws SQLException {
+        return submit(item, "lost", (conn, itemId) -> {
+            LostItem details = new LostItem(itemId, lostItem.getLastSeenLocation(), lostItem.getLastSeenDate(),
+                    lostItem.getAdditionalDetails(), lostItem.getImagePath());
+            if (!lostItemDAO.createLostItem(conn, details)) {
+                throw new SQLException("Failed to create lost item");
+            }
+        });
+    }
+
+    // Creates the item, its found_item row and the report in one transaction; returns the new Item_ID.
+    public int submitFoundReport(Item item, FoundItem foundItem) throws SQLException {
+        return submit(item, "found", (conn, itemId) -> {
+            FoundItem details = new FoundItem(itemId, foundItem.getFoundLocation(), foundItem.getFoundDate(),
+                    foundItem.getStorageLocation(), foundItem.getAdditionalDetails(), foundItem.getImagePath());
+            if (!foundItemService.createFoundItem(conn, details)) {
+                throw new SQLException("Failed to create found item");
+            }
+        });
+    }
+
+    private int submit(Item item, String reportType, DetailsWriter detailsWriter) throws SQLException {
+        LOGGER.log(Level.INFO, "Submitting {0} report for item: {1}", new Object[]{reportType, item.getName()});
+        Connection conn = null;
+        try {
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
+
+            int itemId = itemService.createItem(conn, item);
+            if (itemId <= 0) {
+                throw new SQLException("Failed to create item");
+            }
+            detailsWriter.write(conn, itemId);
+            Report report = new Report(0, item.getUserId(), itemId, reportType, new Timestamp(System.currentTimeMillis()));
+            if (!reportService.createReport(conn, report)) {
+                throw new SQLException("Failed to create report");
+            }
+
+            conn.commit();
+            ChangeVersion.bump();
+            LOGGER.log(Level.INFO, "Submitted {0} report for itemId: {1}", new Object[]{reportType, itemId});
+            return itemId;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackEx) {
+                    LOGGER.log(Level.SEVERE, "Rollback failed", rollbackEx);
+                }
+            }
+            LOGGER.log(Level.SEVERE, "Error submitting {0} report for item: {1}", new Object[]{reportType, item.getName()});
+            throw e;
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                } catch (SQLException closeEx) {
+                    LOGGER.log(Level.SEVERE, "Error closing connection", closeEx);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface DetailsWriter {
+        void write(Connection conn, int itemId) throws SQLException;
+    }
+}
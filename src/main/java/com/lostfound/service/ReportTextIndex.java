@@ -0,0 +1,60 @@
+package com.lostfound.service;
+
+// Ranked, typo-tolerant search over every report's item name, description and additional details, backed by a
+// FullTextIndex. Built and kept current from change_log in the background; see BackgroundIndex.
+import com.lostfound.dao.ResultStreams;
+import com.lostfound.model.ReportText;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ReportTextIndex {
+    private static final Logger LOGGER = Logger.getLogger(ReportTextIndex.class.getName());
+    // The item name counts this many times as much as a word of the description or details.
+    private static final int NAME_WEIGHT = 3;
+    private static final int[] FIELD_WEIGHTS = {NAME_WEIGHT, 1, 1};
+
+    private static final ReportTextIndex SHARED = new ReportTextIndex();
+
+    private final BackgroundIndex<FullTextIndex, ReportText> index = new BackgroundIndex<>("report text index",
+            this::load, reportIds -> service().getReportTextsByIds(reportIds), ReportTextIndex::add,
+            FullTextIndex::remove);
+    // Indexer-thread state.
+    private ReportService reportService;
+
+    public static ReportTextIndex shared() {
+        return SHARED;
+    }
+
+    // Starts the initial build in the background if it has not run yet or failed last time.
+    public void startIndexing() {
+        index.startIndexing();
+    }
+
+    // The best `limit` reports for the query by BM25 score; see FullTextIndex.search.
+    public FullTextIndex.Hits search(String query, int limit) throws SQLException {
+        return index.get().search(query, limit);
+    }
+
+    private ReportService service() throws SQLException {
+        if (reportService == null) {
+            reportService = new ReportService();
+        }
+        return reportService;
+    }
+
+    private FullTextIndex load() throws SQLException {
+        long start = System.nanoTime();
+        FullTextIndex built = new FullTextIndex();
+        service().forEachReportText(ResultStreams.DEFAULT_FETCH_SIZE, text -> add(built, text));
+        LOGGER.log(Level.INFO, "Built report text index over {0} reports and {1} terms in {2} ms",
+                new Object[]{built.size(), built.getTermCount(), (System.nanoTime() - start) / 1_000_000});
+        return built;
+    }
+
+    private static void add(FullTextIndex index, ReportText text) {
+        index.add(text.getReportId(),
+                new String[]{text.getItemName(), text.getDescription(), text.getAdditionalDetails()},
+                FIELD_WEIGHTS);
+    }
+}
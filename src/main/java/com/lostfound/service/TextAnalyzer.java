@@ -0,0 +1,36 @@
+package com.lostfound.service;
+
+// Splits text into search terms: folded (see TextFolding), broken on anything but letters and digits, with
+// single characters and common English stop words dropped.
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public final class TextAnalyzer {
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it", "its", "of", "on",
+            "or", "that", "the", "this", "to", "was", "were", "with");
+
+    private TextAnalyzer() {
+    }
+
+    // Terms in text order, repeats included.
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        String folded = TextFolding.fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = folded.substring(start, i);
+                if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,22 @@
+package com.lostfound.service;
+
+// Case- and accent-insensitive form of text for sorting and search: "Café" and "CAFE" both fold to "cafe".
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextFolding {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private TextFolding() {
+    }
+
+    // Null folds to the empty string.
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,358 @@
+package com.lostfound.service;
+
+// In-memory substring index over short text fields. A document's fields are folded (see TextFolding) and each
+// three-character window maps to a sorted int[] of the slots of the documents containing it. A search term of
+// three or more characters narrows the candidates to the intersection of its trigrams' lists, and every
+// candidate is then checked with contains(), so results are exact. Slots are handed out in increasing order,
+// which keeps each list sorted by appending; removed documents stay in the lists, skipped, until enough pile up
+// to compact. Searches share a read lock and updates take the write lock.
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public final class TrigramIndex {
+    // Joins a document's fields; trigrams spanning it are not indexed and no search term can contain it.
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final int MIN_COMPACT_REMOVED = 1024;
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int slotCount;
+    private int[] docIds = new int[1024];
+    private long[] ranks = new long[1024];
+    // Null once the document is removed.
+    private String[] texts = new String[1024];
+    private int removed;
+    private LongIntTable slotsByDoc = new LongIntTable();
+    private LongIntTable listsByTrigram = new LongIntTable();
+    private int[][] lists = new int[1024][];
+    private int[] listSizes = new int[1024];
+    private int listCount;
+
+    // Indexes the fields under docId, replacing any previous version. Results are ordered by rank, highest
+    // first; searches are cheapest when documents are added in ascending rank order.
+    public void add(int docId, long rank, String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            if (text.length() > 0) {
+                text.append(FIELD_SEPARATOR);
+            }
+            text.append(TextFolding.fold(field).replace(FIELD_SEPARATOR, ' '));
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            addLocked(docId, rank, text.toString());
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByDoc.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Documents containing every whitespace-separated term of the query in any field, by rank then docId,
+    // both descending. A query made only of terms shorter than three characters checks every document.
+    public Hits search(String query) {
+        String[] terms = TextFolding.fold(query).replace(FIELD_SEPARATOR, ' ').trim().split("\\s+");
+        if (terms.length == 1 && terms[0].isEmpty()) {
+            terms = new String[0];
+        }
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(terms);
+            int count = 0;
+            int[] matches = new int[candidates == null ? slotCount : candidates.length];
+            int candidateCount = candidates == null ? slotCount : candidates.length;
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates == null ? i : candidates[i];
+                String text = texts[slot];
+                if (text != null && containsAll(text, terms)) {
+                    matches[count++] = slot;
+                }
+            }
+            sortByRank(matches, count);
+            int[] hitIds = new int[count];
+            long[] hitRanks = new long[count];
+            for (int i = 0; i < count; i++) {
+                hitIds[i] = docIds[matches[i]];
+                hitRanks[i] = ranks[matches[i]];
+            }
+            return new Hits(hitIds, hitRanks);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Intersection of the posting lists of every trigram in the terms, or null if no term has one.
+    private int[] candidates(String[] terms) {
+        long[] grams = new long[0];
+        for (String term : terms) {
+            long[] termGrams = trigrams(term);
+            int offset = grams.length;
+            grams = Arrays.copyOf(grams, offset + termGrams.length);
+            System.arraycopy(termGrams, 0, grams, offset, termGrams.length);
+        }
+        if (grams.length == 0) {
+            return null;
+        }
+        int[] listIds = new int[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            listIds[i] = listsByTrigram.get(grams[i]);
+            if (listIds[i] < 0) {
+                return NO_SLOTS;
+            }
+        }
+        // Smallest list first, so the candidate set only shrinks from the start.
+        long[] bySize = new long[listIds.length];
+        for (int i = 0; i < listIds.length; i++) {
+            bySize[i] = ((long) listSizes[listIds[i]] << 32) | listIds[i];
+        }
+        Arrays.sort(bySize);
+        int first = (int) bySize[0];
+        int[] result = Arrays.copyOf(lists[first], listSizes[first]);
+        int size = result.length;
+        for (int i = 1; i < bySize.length && size > 0; i++) {
+            int listId = (int) bySize[i];
+            if (listId == (int) bySize[i - 1]) {
+                continue;
+            }
+            size = intersect(result, size, lists[listId], listSizes[listId]);
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    // Keeps the values of a[0, aSize) also in b[0, bSize), in place; both are sorted. Returns the new size.
+    private static int intersect(int[] a, int aSize, int[] b, int bSize) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < aSize && from < bSize; i++) {
+            int value = a[i];
+            from = gallop(b, from, bSize, value);
+            if (from < bSize && b[from] == value) {
+                a[kept++] = value;
+            }
+        }
+        return kept;
+    }
+
+    // First index in sorted[from, to) whose value is at least the given one.
+    private static int gallop(int[] sorted, int from, int to, int value) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && sorted[high] < value) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, to);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean containsAll(String text, String[] terms) {
+        for (String term : terms) {
+            if (!text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Distinct trigrams of the text in ascending order, each packed as three 16-bit chars.
+    private static long[] trigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - 2];
+        int count = 0;
+        for (int i = 0; i + 2 < text.length(); i++) {
+            char c0 = text.charAt(i);
+            char c1 = text.charAt(i + 1);
+            char c2 = text.charAt(i + 2);
+            if (c0 == FIELD_SEPARATOR || c1 == FIELD_SEPARATOR || c2 == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams[count++] = ((long) c0 << 32) | ((long) c1 << 16) | c2;
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private void addLocked(int docId, long rank, String text) {
+        if (slotCount == docIds.length) {
+            int capacity = docIds.length + (docIds.length >> 1);
+            docIds = Arrays.copyOf(docIds, capacity);
+            ranks = Arrays.copyOf(ranks, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        int slot = slotCount++;
+        docIds[slot] = docId;
+        ranks[slot] = rank;
+        texts[slot] = text;
+        slotsByDoc.put(docId, slot);
+        for (long gram : trigrams(text)) {
+            int listId = listsByTrigram.get(gram);
+            if (listId < 0) {
+                listId = newList();
+                listsByTrigram.put(gram, listId);
+            }
+            int[] list = lists[listId];
+            if (listSizes[listId] == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+                lists[listId] = list;
+            }
+            list[listSizes[listId]++] = slot;
+        }
+    }
+
+    private int newList() {
+        if (listCount == lists.length) {
+            int capacity = lists.length * 2;
+            lists = Arrays.copyOf(lists, capacity);
+            listSizes = Arrays.copyOf(listSizes, capacity);
+        }
+        lists[listCount] = new int[4];
+        listSizes[listCount] = 0;
+        return listCount++;
+    }
+
+    // Replacing a document also leaves its old slot behind, so adds check this as well as removes.
+    private void compactIfNeeded() {
+        if (removed >= MIN_COMPACT_REMOVED && removed * 4 > slotCount) {
+            compact();
+        }
+    }
+
+    private void removeLocked(int docId) {
+        int slot = slotsByDoc.remove(docId);
+        if (slot >= 0) {
+            texts[slot] = null;
+            removed++;
+        }
+    }
+
+    // Re-indexes the live documents into fresh slots, dropping the removed ones from every list.
+    private void compact() {
+        int oldCount = slotCount;
+        int[] oldDocIds = docIds;
+        long[] oldRanks = ranks;
+        String[] oldTexts = texts;
+        int live = oldCount - removed;
+        slotCount = 0;
+        removed = 0;
+        docIds = new int[Math.max(1024, live)];
+        ranks = new long[docIds.length];
+        texts = new String[docIds.length];
+        slotsByDoc = new LongIntTable();
+        listsByTrigram = new LongIntTable();
+        lists = new int[1024][];
+        listSizes = new int[1024];
+        listCount = 0;
+        for (int slot = 0; slot < oldCount; slot++) {
+            if (oldTexts[slot] != null) {
+                addLocked(oldDocIds[slot], oldRanks[slot], oldTexts[slot]);
+            }
+        }
+    }
+
+    // Sorts slots[0, length) by rank, then docId, descending. Documents added oldest first leave the slots in
+    // ascending order already, which is just reversed; otherwise a bottom-up merge sort, without boxing.
+    private void sortByRank(int[] slots, int length) {
+        boolean ascending = true;
+        for (int i = 1; i < length && ascending; i++) {
+            ascending = ranksBefore(slots[i], slots[i - 1]);
+        }
+        if (ascending) {
+            for (int i = 0, j = length - 1; i < j; i++, j--) {
+                int swap = slots[i];
+                slots[i] = slots[j];
+                slots[j] = swap;
+            }
+            return;
+        }
+        int[] from = slots;
+        int[] to = new int[length];
+        for (int width = 1; width < length; width <<= 1) {
+            for (int start = 0; start < length; start += width << 1) {
+                int mid = Math.min(start + width, length);
+                int end = Math.min(start + (width << 1), length);
+                int left = start;
+                int right = mid;
+                for (int out = start; out < end; out++) {
+                    if (left < mid && (right >= end || ranksBefore(from[left], from[right]))) {
+                        to[out] = from[left++];
+                    } else {
+                        to[out] = from[right++];
+                    }
+                }
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != slots) {
+            System.arraycopy(from, 0, slots, 0, length);
+        }
+    }
+
+    private boolean ranksBefore(int a, int b) {
+        if (ranks[a] != ranks[b]) {
+            return ranks[a] > ranks[b];
+        }
+        return docIds[a] >= docIds[b];
+    }
+
+    // Matching documents in result order.
+    public static final class Hits {
+        private final int[] docIds;
+        private final long[] ranks;
+
+        Hits(int[] docIds, long[] ranks) {
+            this.docIds = docIds;
+            this.ranks = ranks;
+        }
+
+        public int size() {
+            return docIds.length;
+        }
+
+        public int getDocId(int index) {
+            return docIds[index];
+        }
+
+        public long getRank(int index) {
+            return ranks[index];
+        }
+    }
+}
@@ -14,7 +14,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class AdminPanelUI extends JFrame {
-    private JButton btnManageUsers, btnManageReports, btnViewReports, btnBack, btnLogout, btnClose;
+    private JButton btnManageUsers, btnManageReports, btnViewReports, btnExport, btnImport, btnBack, btnLogout, btnClose;
     private UserService userService;
     private static final Logger LOGGER = Logger.getLogger(AdminPanelUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
@@ -26,7 +26,7 @@ public class AdminPanelUI extends JFrame {
     public AdminPanelUI() throws IOException, SQLException {
         setTitle("Admin Panel - Lost & Found");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(600, 500);
+        setSize(600, 660);
         setLocationRelativeTo(null);
         setUndecorated(true);
         setShape(new RoundRectangle2D.Double(0, 0, getWidth(), getHeight(), 20, 20));
@@ -108,7 +108,7 @@ public class AdminPanelUI extends JFrame {
         headerPanel.add(headerButtons, BorderLayout.EAST);
         mainPanel.add(headerPanel, BorderLayout.NORTH);
 
-        JPanel contentPanel = new JPanel(new GridLayout(3, 1, 20, 20));
+        JPanel contentPanel = new JPanel(new GridLayout(5, 1, 20, 20));
         contentPanel.setOpaque(false);
         contentPanel.setBorder(new EmptyBorder(20, 0, 20, 0));
 
@@ -126,7 +126,17 @@ public class AdminPanelUI extends JFrame {
 
         contentPanel.add(btnManageUsers);
         contentPanel.add(btnManageReports);
+        btnExport = createModernButton("Export Data", new Color(230, 126, 34));
+        btnExport.getAccessibleContext().setAccessibleName("Export Data");
+        btnExport.getAccessibleContext().setAccessibleDescription("Export all reports or users to a CSV or JSON file");
+
+        btnImport = createModernButton("Import Intake CSV", new Color(52, 152, 219));
+        btnImport.getAccessibleContext().setAccessibleName("Import Intake CSV");
+        btnImport.getAccessibleContext().setAccessibleDescription("Bulk import lost and found records from a CSV file");
+
         contentPanel.add(btnViewReports);
+        contentPanel.add(btnExport);
+        contentPanel.add(btnImport);
 
         mainPanel.add(contentPanel, BorderLayout.CENTER);
 
@@ -184,6 +194,16 @@ public class AdminPanelUI extends JFrame {
             });
         });
 
+        btnExport.addActionListener(e -> {
+            LOGGER.log(Level.INFO, "Opening ExportDialog");
+            new ExportDialog(this).setVisible(true);
+        });
+
+        btnImport.addActionListener(e -> {
+            LOGGER.log(Level.INFO, "Opening ImportDialog");
+            new ImportDialog(this).setVisible(true);
+        });
+
         btnBack.addActionListener(e -> {
             LOGGER.log(Level.INFO, "Navigating to UserPanelUI");
             SwingUtilities.invokeLater(() -> {
@@ -4,12 +4,8 @@ package com.lostfound.ui;
 import com.lostfound.model.Item;
 import com.lostfound.model.LostItem;
 import com.lostfound.model.FoundItem;
-import com.lostfound.model.Report;
 import com.lostfound.model.User;
-import com.lostfound.service.ItemService;
-import com.lostfound.service.LostItemService;
-import com.lostfound.service.FoundItemService;
-import com.lostfound.service.ReportService;
+import com.lostfound.service.ReportSubmissionService;
 import com.lostfound.service.UserService;
 import javax.swing.*;
 import javax.swing.border.*;
@@ -21,7 +17,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.sql.SQLException;
-import java.sql.Timestamp;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -34,10 +29,7 @@ public class CreateReportUI extends JFrame {
     private File selectedImageFile;
     private JPanel specificFieldsPanel;
     private UserService userService;
-    private ItemService itemService;
-    private LostItemService lostItemService;
-    private FoundItemService foundItemService;
-    private ReportService reportService;
+    private ReportSubmissionService reportSubmissionService;
     private static final Logger LOGGER = Logger.getLogger(CreateReportUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
     private static final Color CARD_COLOR = new Color(44, 47, 51);
@@ -48,10 +40,7 @@ public class CreateReportUI extends JFrame {
     public CreateReportUI() {
         try {
             userService = new UserService();
-            itemService = new ItemService();
-            lostItemService = new LostItemService();
-            foundItemService = new FoundItemService();
-            reportService = new ReportService();
+            reportSubmissionService = new ReportSubmissionService();
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error initializing services", e);
             SwingUtilities.invokeLater(() -> {
@@ -403,25 +392,12 @@ public class CreateReportUI extends JFrame {
                 return;
             }
 
-            String imagePath = processImage(category);
-
-            Item item = new Item(
-                    0,
-                    title,
-                    description,
-                    category,
-                    currentUser.getUserId(),
-                    category,
-                    new java.sql.Timestamp(System.currentTimeMillis())
-            );
-            int itemId = itemService.createItem(item);
-            if (itemId <= 0) {
-                throw new SQLException("Failed to create item");
-            }
-            LOGGER.log(Level.INFO, "Created item with ID: {0}", itemId);
-
+            String lastSeenLocation = "";
+            String foundLocation = "";
+            String storageLocation = "";
+            double reward = 0.0;
             if ("lost".equals(category)) {
-                String lastSeenLocation = txtLastSeenLocation != null ? txtLastSeenLocation.getText().trim() : "";
+                lastSeenLocation = txtLastSeenLocation != null ? txtLastSeenLocation.getText().trim() : "";
                 String rewardStr = txtReward != null ? txtReward.getText().trim() : "";
                 if (lastSeenLocation.isEmpty()) {
                     JOptionPane.showMessageDialog(this,
@@ -429,7 +405,6 @@ public class CreateReportUI extends JFrame {
                             "Validation Error", JOptionPane.WARNING_MESSAGE);
                     return;
                 }
-                double reward = 0.0;
                 if (!rewardStr.isEmpty()) {
                     try {
                         reward = Double.parseDouble(rewardStr);
@@ -440,52 +415,51 @@ public class CreateReportUI extends JFrame {
                         return;
                     }
                 }
-                String additionalDetails = reward > 0 ? "Reward Offered: $" + reward : null;
-                LostItem lostItem = new LostItem(
-                        itemId,
-                        lastSeenLocation,
-                        new java.sql.Date(System.currentTimeMillis()),
-                        additionalDetails,
-                        imagePath
-                );
-                if (!lostItemService.createLostItem(lostItem)) {
-                    throw new SQLException("Failed to create lost item");
-                }
-                LOGGER.log(Level.INFO, "Created lost item for itemId: {0}", itemId);
             } else if ("found".equals(category)) {
-                String foundLocation = txtFoundLocation != null ? txtFoundLocation.getText().trim() : "";
-                String storageLocation = txtStorageLocation != null ? txtStorageLocation.getText().trim() : "";
+                foundLocation = txtFoundLocation != null ? txtFoundLocation.getText().trim() : "";
+                storageLocation = txtStorageLocation != null ? txtStorageLocation.getText().trim() : "";
                 if (foundLocation.isEmpty()) {
                     JOptionPane.showMessageDialog(this,
                             "Found Location is required for found items",
                             "Validation Error", JOptionPane.WARNING_MESSAGE);
                     return;
                 }
+            }
+
+            String imagePath = processImage(category);
+
+            Item item = new Item(
+                    0,
+                    title,
+                    description,
+                    category,
+                    currentUser.getUserId(),
+                    category,
+                    new java.sql.Timestamp(System.currentTimeMillis())
+            );
+            int itemId;
+            if ("lost".equals(category)) {
+                String additionalDetails = reward > 0 ? "Reward Offered: $" + reward : null;
+                LostItem lostItem = new LostItem(
+                        0,
+                        lastSeenLocation,
+                        new java.sql.Date(System.currentTimeMillis()),
+                        additionalDetails,
+                        imagePath
+                );
+                itemId = reportSubmissionService.submitLostReport(item, lostItem);
+            } else {
                 FoundItem foundItem = new FoundItem(
-                        itemId,
+                        0,
                         foundLocation,
                         new java.sql.Date(System.currentTimeMillis()),
                         storageLocation,
                         null,
                         imagePath
                 );
-                if (!foundItemService.createFoundItem(foundItem)) {
-                    throw new SQLException("Failed to create found item");
-                }
-                LOGGER.log(Level.INFO, "Created found item for itemId: {0}", itemId);
-            }
-
-            Report report = new Report(
-                    0,
-                    currentUser.getUserId(),
-                    itemId,
-                    category,
-                    new Timestamp(System.currentTimeMillis())
-            );
-            if (!reportService.createReport(report)) {
-                throw new SQLException("Failed to create report");
+                itemId = reportSubmissionService.submitFoundReport(item, foundItem);
             }
-            LOGGER.log(Level.INFO, "Created report for itemId: {0}", itemId);
+            LOGGER.log(Level.INFO, "Submitted report for itemId: {0}", itemId);
 
             JOptionPane.showMessageDialog(this,
                     "Report submitted successfully!\nReference ID: " + itemId,
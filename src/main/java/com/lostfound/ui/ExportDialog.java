@@ -0,0 +1,201 @@
+package com.lostfound.ui;
+
+// Dialog for exporting reports or users to CSV/JSON; the export runs on a background worker with progress and cancel.
+import com.lostfound.service.ExportService;
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+
+public class ExportDialog extends JDialog {
+    private static final Logger LOGGER = Logger.getLogger(ExportDialog.class.getName());
+    private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
+    private static final Color PRIMARY_COLOR = new Color(0, 168, 150);
+    private static final Color TEXT_COLOR = new Color(240, 240, 240);
+    private static final Color SECONDARY_TEXT = new Color(180, 180, 180);
+    private static final String REPORTS = "Reports";
+    private static final String USERS = "Users";
+
+    private final JComboBox<String> cmbData = new JComboBox<>(new String[]{REPORTS, USERS});
+    private final JComboBox<ExportService.Format> cmbFormat = new JComboBox<>(ExportService.Format.values());
+    private final JCheckBox chkGzip = new JCheckBox("Compress (gzip)");
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton btnExport = new JButton("Export...");
+    private final JButton btnCancel = new JButton("Close");
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private SwingWorker<Long, Long> worker;
+
+    public ExportDialog(Frame owner) {
+        super(owner, "Export Data", false);
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+
+        JPanel panel = new JPanel(new GridBagLayout());
+        panel.setBackground(BACKGROUND_DARK);
+        panel.setBorder(new EmptyBorder(20, 25, 20, 25));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        addRow(panel, gbc, 0, "Data:", cmbData);
+        addRow(panel, gbc, 1, "Format:", cmbFormat);
+        chkGzip.setOpaque(false);
+        chkGzip.setForeground(TEXT_COLOR);
+        gbc.gridx = 1;
+        gbc.gridy = 2;
+        panel.add(chkGzip, gbc);
+
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+        gbc.gridx = 0;
+        gbc.gridy = 3;
+        gbc.gridwidth = 2;
+        panel.add(progressBar, gbc);
+
+        statusLabel.setForeground(SECONDARY_TEXT);
+        gbc.gridy = 4;
+        panel.add(statusLabel, gbc);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.setOpaque(false);
+        buttons.add(btnExport);
+        buttons.add(btnCancel);
+        gbc.gridy = 5;
+        panel.add(buttons, gbc);
+
+        btnExport.addActionListener(e -> chooseTargetAndExport());
+        btnCancel.addActionListener(e -> cancelOrClose());
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                cancelOrClose();
+            }
+        });
+
+        setContentPane(panel);
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    private void addRow(JPanel panel, GridBagConstraints gbc, int row, String label, JComponent field) {
+        JLabel jLabel = new JLabel(label);
+        jLabel.setForeground(TEXT_COLOR);
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.gridwidth = 1;
+        panel.add(jLabel, gbc);
+        gbc.gridx = 1;
+        panel.add(field, gbc);
+    }
+
+    private void chooseTargetAndExport() {
+        String data = (String) cmbData.getSelectedItem();
+        ExportService.Format format = (ExportService.Format) cmbFormat.getSelectedItem();
+        boolean gzip = chkGzip.isSelected();
+        String extension = "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File(data.toLowerCase() + extension));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        if (!file.getName().endsWith(extension)) {
+            file = new File(file.getParentFile(), file.getName() + extension);
+        }
+        if (file.exists() && JOptionPane.showConfirmDialog(this, "Overwrite " + file.getName() + "?",
+                "Confirm Overwrite", JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return;
+        }
+        startExport(data, format, gzip, file.toPath());
+    }
+
+    private void startExport(String data, ExportService.Format format, boolean gzip, Path target) {
+        cancelled.set(false);
+        setControlsEnabled(false);
+        btnCancel.setText("Cancel");
+        progressBar.setIndeterminate(true);
+        progressBar.setString("Starting...");
+        statusLabel.setText("Exporting " + data.toLowerCase() + " to " + target.getFileName());
+        LOGGER.log(Level.INFO, "Starting {0} export to {1}", new Object[]{data, target});
+
+        worker = new SwingWorker<>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                ExportService.Progress progress = new ExportService.Progress() {
+                    @Override
+                    public void rowsWritten(long rows) {
+                        publish(rows);
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return cancelled.get();
+                    }
+                };
+                ExportService exportService = new ExportService();
+                return REPORTS.equals(data)
+                        ? exportService.exportReports(target, format, gzip, progress)
+                        : exportService.exportUsers(target, format, gzip, progress);
+            }
+
+            @Override
+            protected void process(List<Long> chunks) {
+                progressBar.setString(String.format("%,d rows", chunks.get(chunks.size() - 1)));
+            }
+
+            @Override
+            protected void done() {
+                progressBar.setIndeterminate(false);
+                setControlsEnabled(true);
+                btnCancel.setText("Close");
+                try {
+                    long rows = get();
+                    progressBar.setValue(progressBar.getMaximum());
+                    progressBar.setString(String.format("%,d rows", rows));
+                    statusLabel.setText("Exported to " + target);
+                    statusLabel.setForeground(PRIMARY_COLOR);
+                } catch (ExecutionException e) {
+                    progressBar.setValue(0);
+                    if (e.getCause() instanceof CancellationException) {
+                        progressBar.setString("Cancelled");
+                        statusLabel.setText("Export cancelled");
+                        statusLabel.setForeground(SECONDARY_TEXT);
+                        return;
+                    }
+                    LOGGER.log(Level.SEVERE, "Export failed", e.getCause());
+                    progressBar.setString("Failed");
+                    statusLabel.setText("Export failed: " + e.getCause().getMessage());
+                    statusLabel.setForeground(Color.RED);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    // Cancellation is cooperative: the export stops at the next row and deletes its partial file.
+    private void cancelOrClose() {
+        if (worker != null && !worker.isDone()) {
+            cancelled.set(true);
+            progressBar.setString("Cancelling...");
+            return;
+        }
+        dispose();
+    }
+
+    private void setControlsEnabled(boolean enabled) {
+        cmbData.setEnabled(enabled);
+        cmbFormat.setEnabled(enabled);
+        chkGzip.setEnabled(enabled);
+        btnExport.setEnabled(enabled);
+    }
+}
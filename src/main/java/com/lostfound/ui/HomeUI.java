@@ -1,20 +1,33 @@
 package com.lostfound.ui;
 
 // Home UI for displaying and searching reports.
+import com.lostfound.dao.ChangeLog;
+import com.lostfound.model.Page;
+import com.lostfound.model.ReportDetails;
+import com.lostfound.model.ScoredReport;
+import com.lostfound.model.SearchResult;
 import com.lostfound.model.User;
+import com.lostfound.service.ChangeLogPoller;
+import com.lostfound.service.QueryCancellation;
+import com.lostfound.service.ReportSearchIndex;
 import com.lostfound.service.ReportService;
+import com.lostfound.service.ReportTextIndex;
 import com.lostfound.service.UserService;
 import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import java.awt.*;
 import java.awt.event.*;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 public class HomeUI extends JFrame {
     private UserService userService;
@@ -22,12 +35,36 @@ public class HomeUI extends JFrame {
     private JTable reportsTable;
     private JTextField searchField;
     private JLabel statusLabel;
+    private SearchPipeline<SearchResult<ReportDetails>> searchPipeline;
+    private final KeyedTableModel<ReportDetails> searchModel =
+            new KeyedTableModel<>(REPORT_COLUMN_NAMES, REPORT_COLUMN_CLASSES, REPORT_COLUMNS, ReportDetails::getReportId);
+    // Only search results sort by header click; the latest reports stay newest first, as paged from the database.
+    private final IndexedRowSorter<ReportDetails> searchSorter = new IndexedRowSorter<>(searchModel)
+            .sortByNumber(0, ReportDetails::getReportId)
+            .sortByText(1, ReportDetails::getItemName)
+            .sortByText(2, ReportDetails::getUserName)
+            .sortByNumber(4, report -> report.getReportDate() != null ? report.getReportDate().getTime() : Long.MIN_VALUE);
+    private PagedTableModel<ReportDetails> latestModel;
+    private final ChangeLogPoller.Listener reportChanges = this::applyReportChanges;
+    private final ChangeLogPoller.Listener indexedReportChanges = this::rerunSearch;
     private static final Logger LOGGER = Logger.getLogger(HomeUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
     private static final Color CARD_COLOR = new Color(44, 47, 51);
     private static final Color PRIMARY_COLOR = new Color(0, 168, 150);
     private static final Color TEXT_COLOR = new Color(240, 240, 240);
     private static final Color SECONDARY_TEXT = new Color(180, 180, 180);
+    private static final int SEARCH_DEBOUNCE_MS = 250;
+    private static final int LATEST_PAGE_SIZE = 100;
+    private static final int LATEST_MAX_PAGES = 10;
+    private static final String[] REPORT_COLUMN_NAMES = {"Report ID", "Item Name", "User Name", "User Contact", "Date"};
+    private static final Class<?>[] REPORT_COLUMN_CLASSES =
+            {Integer.class, String.class, String.class, String.class, String.class};
+    private static final List<KeyedTableModel.Column<ReportDetails>> REPORT_COLUMNS = List.of(
+            ReportDetails::getReportId,
+            report -> report.getItemName() != null ? report.getItemName() : "",
+            report -> report.getUserName() != null ? report.getUserName() : "",
+            report -> report.getUserContact() != null ? report.getUserContact() : "",
+            report -> report.getReportDate() != null ? report.getReportDate().toString() : "");
 
     public HomeUI() throws SQLException {
         userService = new UserService();
@@ -130,11 +167,7 @@ public class HomeUI extends JFrame {
         btnClearSearch.addActionListener(e -> {
             searchField.setText("");
             statusLabel.setText("");
-            try {
-                showLatestReports("");
-            } catch (SQLException ex) {
-                handleReportLoadError(ex);
-            }
+            searchPipeline.submitNow("");
         });
         searchPanel.add(btnClearSearch);
 
@@ -176,7 +209,19 @@ public class HomeUI extends JFrame {
 
         mainPanel.add(headerPanel, BorderLayout.NORTH);
 
-        reportsTable = new JTable();
+        latestModel = createLatestModel();
+        latestModel.addTableModelListener(e -> {
+            if (reportsTable.getModel() == latestModel && searchField.getText().trim().isEmpty()) {
+                statusLabel.setText(latestModel.getRowCount() == 0 ? "No reports available" : "");
+                statusLabel.setForeground(Color.YELLOW);
+            }
+        });
+        latestModel.setRefreshErrorHandler(e -> {
+            LOGGER.log(Level.SEVERE, "Error loading reports: {0}", e.getMessage());
+            statusLabel.setText("Error: Failed to load reports");
+            statusLabel.setForeground(Color.RED);
+        });
+        reportsTable = new JTable(latestModel);
         reportsTable.setRowHeight(30);
         reportsTable.setFont(new Font("Segoe UI", Font.PLAIN, 14));
         reportsTable.setForeground(TEXT_COLOR);
@@ -192,6 +237,19 @@ public class HomeUI extends JFrame {
         header.setBackground(new Color(50, 54, 59));
         header.setBorder(new LineBorder(new Color(70, 70, 70)));
 
+        reportsTable.getColumnModel().getColumn(0).setPreferredWidth(80);
+        reportsTable.getColumnModel().getColumn(1).setPreferredWidth(200);
+        reportsTable.getColumnModel().getColumn(2).setPreferredWidth(150);
+        reportsTable.getColumnModel().getColumn(3).setPreferredWidth(150);
+        reportsTable.getColumnModel().getColumn(4).setPreferredWidth(120);
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        for (int i = 0; i < reportsTable.getColumnCount(); i++) {
+            reportsTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+        }
+        // The latest and search models share these columns; keep them across setModel.
+        reportsTable.setAutoCreateColumnsFromModel(false);
+
         JScrollPane scrollPane = new JScrollPane(reportsTable);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         mainPanel.add(scrollPane, BorderLayout.CENTER);
@@ -265,118 +323,162 @@ public class HomeUI extends JFrame {
             }
         });
 
-        try {
-            showLatestReports("");
-        } catch (SQLException e) {
-            handleReportLoadError(e);
-        }
+        showLatestReports();
 
-        searchField.addKeyListener(new KeyAdapter() {
+        searchPipeline = new SearchPipeline<>(SEARCH_DEBOUNCE_MS, this::loadReports, this::renderReports,
+                this::handleReportLoadError);
+        searchField.addActionListener(e -> searchReports());
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
             @Override
-            public void keyReleased(KeyEvent e) {
-                if (e.getKeyCode() == KeyEvent.VK_ENTER) {
-                    searchReports();
-                } else {
-                    searchReports();
-                }
+            public void insertUpdate(DocumentEvent e) {
+                searchPipeline.submit(searchField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchPipeline.submit(searchField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchPipeline.submit(searchField.getText());
             }
         });
+        ChangeLogPoller.shared().addListener(ChangeLog.REPORT, reportChanges);
+        ReportSearchIndex.shared().addListener(indexedReportChanges);
+        // Both build in the background, so they are usually ready by the first search.
+        ReportSearchIndex.shared().startIndexing();
+        ReportTextIndex.shared().startIndexing();
+    }
+
+    @Override
+    public void dispose() {
+        ChangeLogPoller.shared().removeListener(ChangeLog.REPORT, reportChanges);
+        ReportSearchIndex.shared().removeListener(indexedReportChanges);
+        if (searchPipeline != null) {
+            searchPipeline.close();
+        }
+        if (latestModel != null) {
+            latestModel.close();
+        }
+        super.dispose();
     }
 
     private void searchReports() {
         String query = searchField.getText().trim();
         LOGGER.log(Level.INFO, "Searching reports with query: {0}", query);
-        try {
-            showLatestReports(query);
-            statusLabel.setText(query.isEmpty() ? "" : "Showing results for: " + query);
-            statusLabel.setForeground(PRIMARY_COLOR);
-        } catch (SQLException e) {
-            handleReportLoadError(e);
+        searchPipeline.submitNow(query);
+    }
+
+    // Runs on the search pipeline's worker thread; must not touch Swing components. Returns null for the empty
+    // query: the latest reports come from the paged model, which loads its own rows. When nothing contains the
+    // query, returns the closest ranked matches with a total count of 0, as there are no exact matches.
+    private SearchResult<ReportDetails> loadReports(String query, QueryCancellation cancellation)
+            throws SQLException {
+        if (query.isEmpty()) {
+            return null;
         }
+        SearchResult<ReportDetails> result =
+                reportService.searchReports(query, ReportService.MAX_PAGE_SIZE, null, cancellation);
+        if (result.getTotalCount() > 0 || (cancellation != null && cancellation.isCancelled())) {
+            return result;
+        }
+        List<ReportDetails> closest = new ArrayList<>();
+        for (ScoredReport scored : reportService.searchReportsRanked(query, ReportService.DEFAULT_PAGE_SIZE)) {
+            closest.add(scored.getReport());
+        }
+        return new SearchResult<>(closest, null, null, 0);
     }
 
-    private void showLatestReports(String searchQuery) throws SQLException {
-        DefaultTableModel model = new DefaultTableModel(
-                new String[]{"Report ID", "Item Name", "User Name", "User Contact", "Date"}, 0
-        ) {
-            @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 0) {
-                    return Integer.class;
-                }
-                return String.class;
+    // Runs on the change log poller thread. The latest reports are re-read around the viewport.
+    private void applyReportChanges(Map<Integer, ChangeLog.Operation> changes) {
+        SwingUtilities.invokeLater(() -> {
+            if (isDisplayable() && searchField.getText().trim().isEmpty()) {
+                LOGGER.log(Level.INFO, "Applying {0} report changes", changes.size());
+                latestModel.refresh();
             }
+        });
+    }
 
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+    // Runs on the search index's thread once the changes are in it. A search is run again because changed
+    // rows may now match it or stop matching it; run from the poller, it could read the index too early.
+    private void rerunSearch(Map<Integer, ChangeLog.Operation> changes) {
+        SwingUtilities.invokeLater(() -> {
+            if (!isDisplayable()) {
+                return;
             }
-        };
+            String query = searchField.getText().trim();
+            if (!query.isEmpty()) {
+                LOGGER.log(Level.INFO, "Re-running search after {0} report changes", changes.size());
+                searchPipeline.submitNow(query);
+            }
+        });
+    }
 
-        var reports = reportService.getAllReportsWithDetails();
+    private PagedTableModel<ReportDetails> createLatestModel() {
+        return new PagedTableModel<>(REPORT_COLUMN_NAMES, REPORT_COLUMN_CLASSES, REPORT_COLUMNS,
+                new PagedTableModel.PageSource<>() {
+                    @Override
+                    public int count() throws SQLException {
+                        return reportService.countReports();
+                    }
+
+                    @Override
+                    public String tokenAt(int offset) throws SQLException {
+                        return reportService.getPageTokenAt(offset);
+                    }
+
+                    @Override
+                    public Page<ReportDetails> fetch(String pageToken, int pageSize) throws SQLException {
+                        return reportService.getReportDetailsPage(pageToken, pageSize);
+                    }
+                }, LATEST_PAGE_SIZE, LATEST_MAX_PAGES);
+    }
+
+    // The latest reports, newest first, paged in as the table scrolls.
+    private void showLatestReports() {
+        statusLabel.setText("");
+        if (reportsTable.getModel() != latestModel) {
+            reportsTable.setRowSorter(null);
+            reportsTable.setModel(latestModel);
+        }
+        latestModel.refresh();
+    }
+
+    // Search results are diffed into the existing model, so selection and scroll position survive a reload.
+    private void renderReports(String query, SearchResult<ReportDetails> result) {
+        if (query.isEmpty()) {
+            showLatestReports();
+            return;
+        }
+        if (reportsTable.getModel() != searchModel) {
+            reportsTable.setModel(searchModel);
+            reportsTable.setRowSorter(searchSorter);
+        }
+        statusLabel.setText("Showing results for: " + query);
+        statusLabel.setForeground(PRIMARY_COLOR);
+        List<ReportDetails> reports = result != null ? result.getItems() : null;
         if (reports == null) {
             LOGGER.log(Level.WARNING, "ReportService returned null reports");
-            model.addRow(new Object[]{"", "Error: No reports available", "", "", ""});
+            searchModel.clear();
             statusLabel.setText("Error: Failed to load reports");
             statusLabel.setForeground(Color.RED);
-            reportsTable.setModel(model);
-            updateTableUI();
             return;
         }
 
-        String query = searchQuery.toLowerCase();
-        int matchCount = 0;
-
-        for (var report : reports) {
-            boolean matches = query.isEmpty() ||
-                    (report.getItemName() != null && report.getItemName().toLowerCase().contains(query)) ||
-                    (report.getStatus() != null && report.getStatus().toLowerCase().contains(query)) ||
-                    (report.getLocation() != null && report.getLocation().toLowerCase().contains(query));
-            if (matches) {
-                model.addRow(new Object[]{
-                        report.getReportId(),
-                        report.getItemName() != null ? report.getItemName() : "",
-                        report.getUserName() != null ? report.getUserName() : "",
-                        report.getUserContact() != null ? report.getUserContact() : "",
-                        report.getReportDate() != null ? report.getReportDate().toString() : ""
-                });
-                matchCount++;
-            }
+        searchModel.setRows(reports);
+        int totalMatches = result.getTotalCount();
+        if (totalMatches > reports.size()) {
+            statusLabel.setText("Showing " + reports.size() + " of " + totalMatches + " results for: " + query);
         }
-
-        if (matchCount == 0 && !query.isEmpty()) {
-            model.addRow(new Object[]{"", "No reports found", "", "", ""});
-            statusLabel.setText("No results for: " + searchQuery);
+        if (reports.isEmpty()) {
+            statusLabel.setText("No results for: " + query);
             statusLabel.setForeground(Color.YELLOW);
-        } else if (matchCount == 0 && query.isEmpty()) {
-            model.addRow(new Object[]{"", "No reports available", "", "", ""});
-            statusLabel.setText("No reports available");
+        } else if (totalMatches == 0) {
+            statusLabel.setText("No exact results for: " + query + " - showing closest matches");
             statusLabel.setForeground(Color.YELLOW);
         }
-
-        reportsTable.setModel(model);
-        reportsTable.getColumnModel().getColumn(0).setPreferredWidth(80);
-        reportsTable.getColumnModel().getColumn(1).setPreferredWidth(200);
-        reportsTable.getColumnModel().getColumn(2).setPreferredWidth(150);
-        reportsTable.getColumnModel().getColumn(3).setPreferredWidth(150);
-        reportsTable.getColumnModel().getColumn(4).setPreferredWidth(120);
-
-        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
-        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
-        for (int i = 0; i < reportsTable.getColumnCount(); i++) {
-            reportsTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
-        }
-
-        updateTableUI();
-    }
-
-    private void updateTableUI() {
-        SwingUtilities.invokeLater(() -> {
-            reportsTable.revalidate();
-            reportsTable.repaint();
-            LOGGER.log(Level.INFO, "Table updated, visible: {0}, rows: {1}, size: {2}",
-                    new Object[]{reportsTable.isVisible(), reportsTable.getRowCount(), reportsTable.getSize()});
-        });
+        LOGGER.log(Level.INFO, "Table updated with {0} rows", searchModel.getRowCount());
     }
 
     private void handleReportLoadError(SQLException e) {
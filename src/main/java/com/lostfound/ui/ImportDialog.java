@@ -0,0 +1,185 @@
+package com.lostfound.ui;
+
+// Dialog for bulk-importing intake CSV files; the import runs on a background worker and can be resumed.
+import com.lostfound.model.ImportResult;
+import com.lostfound.service.ImportService;
+import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
+
+public class ImportDialog extends JDialog {
+    private static final Logger LOGGER = Logger.getLogger(ImportDialog.class.getName());
+    private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
+    private static final Color PRIMARY_COLOR = new Color(0, 168, 150);
+    private static final Color TEXT_COLOR = new Color(240, 240, 240);
+    private static final Color SECONDARY_TEXT = new Color(180, 180, 180);
+
+    private final JSpinner spnChunkSize = new JSpinner(new SpinnerNumberModel(
+            ImportService.DEFAULT_CHUNK_SIZE, 1, ImportService.MAX_CHUNK_SIZE, 100));
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton btnImport = new JButton("Choose File...");
+    private final JButton btnCancel = new JButton("Close");
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private SwingWorker<ImportResult, long[]> worker;
+
+    public ImportDialog(Frame owner) {
+        super(owner, "Import Intake CSV", false);
+        setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+
+        JPanel panel = new JPanel(new GridBagLayout());
+        panel.setBackground(BACKGROUND_DARK);
+        panel.setBorder(new EmptyBorder(20, 25, 20, 25));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        JLabel help = new JLabel("<html>Columns: type, name, description, user_id, location<br>"
+                + "Optional: date, location_date, storage_location, details, image_path</html>");
+        help.setForeground(SECONDARY_TEXT);
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        gbc.gridwidth = 2;
+        panel.add(help, gbc);
+
+        JLabel chunkLabel = new JLabel("Rows per commit:");
+        chunkLabel.setForeground(TEXT_COLOR);
+        gbc.gridy = 1;
+        gbc.gridwidth = 1;
+        panel.add(chunkLabel, gbc);
+        gbc.gridx = 1;
+        panel.add(spnChunkSize, gbc);
+
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+        gbc.gridx = 0;
+        gbc.gridy = 2;
+        gbc.gridwidth = 2;
+        panel.add(progressBar, gbc);
+
+        statusLabel.setForeground(SECONDARY_TEXT);
+        gbc.gridy = 3;
+        panel.add(statusLabel, gbc);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.setOpaque(false);
+        buttons.add(btnImport);
+        buttons.add(btnCancel);
+        gbc.gridy = 4;
+        panel.add(buttons, gbc);
+
+        btnImport.addActionListener(e -> chooseFileAndImport());
+        btnCancel.addActionListener(e -> cancelOrClose());
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                cancelOrClose();
+            }
+        });
+
+        setContentPane(panel);
+        pack();
+        setLocationRelativeTo(owner);
+    }
+
+    private void chooseFileAndImport() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        startImport(file.toPath(), (Integer) spnChunkSize.getValue());
+    }
+
+    private void startImport(Path source, int chunkSize) {
+        cancelled.set(false);
+        btnImport.setEnabled(false);
+        spnChunkSize.setEnabled(false);
+        btnCancel.setText("Cancel");
+        progressBar.setIndeterminate(true);
+        progressBar.setString("Reading " + source.getFileName() + "...");
+        statusLabel.setText(" ");
+        statusLabel.setForeground(SECONDARY_TEXT);
+        LOGGER.log(Level.INFO, "Starting import of {0}", source);
+
+        worker = new SwingWorker<>() {
+            @Override
+            protected ImportResult doInBackground() throws Exception {
+                return new ImportService().importFile(source, chunkSize, new ImportService.Progress() {
+                    @Override
+                    public void recordsProcessed(long processed, long imported, long rejected) {
+                        publish(new long[]{processed, imported, rejected});
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return cancelled.get();
+                    }
+                });
+            }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                long[] latest = chunks.get(chunks.size() - 1);
+                progressBar.setString(String.format("%,d read, %,d imported, %,d rejected", latest[0], latest[1], latest[2]));
+            }
+
+            @Override
+            protected void done() {
+                progressBar.setIndeterminate(false);
+                btnImport.setEnabled(true);
+                spnChunkSize.setEnabled(true);
+                btnCancel.setText("Close");
+                try {
+                    showResult(get());
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.SEVERE, "Import failed", e.getCause());
+                    progressBar.setString("Failed");
+                    statusLabel.setText("<html>Import failed: " + e.getCause().getMessage()
+                            + "<br>Run the import again on the same file to resume.</html>");
+                    statusLabel.setForeground(Color.RED);
+                    pack();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void showResult(ImportResult result) {
+        progressBar.setValue(progressBar.getMaximum());
+        progressBar.setString(String.format("%,d imported, %,d rejected", result.getRecordsImported(), result.getRecordsRejected()));
+        StringBuilder text = new StringBuilder("<html>");
+        text.append(result.isCancelled() ? "Import cancelled; run it again to resume." : "Import finished.");
+        if (result.getRecordsSkipped() > 0) {
+            text.append(String.format("<br>%,d records were already imported by an earlier run.", result.getRecordsSkipped()));
+        }
+        if (result.getErrorReport() != null) {
+            text.append("<br>Rejected rows: ").append(result.getErrorReport());
+        }
+        text.append("</html>");
+        statusLabel.setText(text.toString());
+        statusLabel.setForeground(result.getRecordsRejected() > 0 ? Color.YELLOW : PRIMARY_COLOR);
+        pack();
+    }
+
+    // Cancellation is cooperative: the current chunk commits first, so the file can be resumed later.
+    private void cancelOrClose() {
+        if (worker != null && !worker.isDone()) {
+            cancelled.set(true);
+            progressBar.setString("Cancelling after the current chunk...");
+            return;
+        }
+        dispose();
+    }
+}
@@ -0,0 +1,446 @@
+package com.lostfound.ui;
+
+// RowSorter for KeyedTableModel that keeps, per sortable column, the model rows in ascending key order as a
+// primitive int[] over precomputed long or folded-string keys. A column's order is built once, on its first
+// sort, and then patched as rows are inserted, deleted or updated instead of re-sorted; descending order reads
+// the same array backwards, so flipping direction is O(1). Row events inside one KeyedTableModel batch only
+// patch the orders; a single RowSorterEvent goes out when the batch ends. Use on the EDT.
+import com.lostfound.service.TextFolding;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+
+public class IndexedRowSorter<T> extends RowSorter<KeyedTableModel<T>> {
+    // Above this share of updated rows, a column order is rebuilt rather than patched row by row.
+    private static final int REBUILD_DIVISOR = 8;
+
+    private final KeyedTableModel<T> model;
+    private final Map<Integer, ColumnOrder> orders = new HashMap<>();
+    private ColumnOrder active;
+    private boolean ascending = true;
+    private boolean inBatch;
+    private boolean batchChanged;
+    private boolean batchUpdated;
+    private int[] batchPrevious;
+
+    public IndexedRowSorter(KeyedTableModel<T> model) {
+        this.model = model;
+        model.addBatchListener(new KeyedTableModel.BatchListener() {
+            @Override
+            public void batchStarted() {
+                inBatch = true;
+            }
+
+            @Override
+            public void batchEnded() {
+                endBatch();
+            }
+        });
+    }
+
+    public IndexedRowSorter<T> sortByNumber(int column, ToLongFunction<T> key) {
+        orders.put(column, new ColumnOrder(column, key, null));
+        return this;
+    }
+
+    // Compares case- and accent-insensitively, via keys folded once per row.
+    public IndexedRowSorter<T> sortByText(int column, Function<T, String> key) {
+        orders.put(column, new ColumnOrder(column, null, key));
+        return this;
+    }
+
+    @Override
+    public KeyedTableModel<T> getModel() {
+        return model;
+    }
+
+    @Override
+    public void toggleSortOrder(int column) {
+        ColumnOrder order = orders.get(column);
+        if (order == null) {
+            return;
+        }
+        int[] previous = viewToModel();
+        if (order == active) {
+            ascending = !ascending;
+        } else {
+            order.ensureBuilt();
+            active = order;
+            ascending = true;
+        }
+        fireSortOrderChanged();
+        fireRowSorterChanged(previous);
+    }
+
+    @Override
+    public int convertRowIndexToModel(int index) {
+        if (active == null) {
+            return index;
+        }
+        return active.order[ascending ? index : active.size - 1 - index];
+    }
+
+    @Override
+    public int convertRowIndexToView(int index) {
+        if (active == null) {
+            return index;
+        }
+        if (index < 0 || index >= active.size) {
+            return -1;
+        }
+        int position = active.rank()[index];
+        return ascending ? position : active.size - 1 - position;
+    }
+
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        int[] previous = viewToModel();
+        ColumnOrder order = null;
+        boolean up = true;
+        if (keys != null && !keys.isEmpty()) {
+            SortKey key = keys.get(0);
+            order = key.getSortOrder() == SortOrder.UNSORTED ? null : orders.get(key.getColumn());
+            up = key.getSortOrder() != SortOrder.DESCENDING;
+        }
+        if (order != null) {
+            order.ensureBuilt();
+        }
+        active = order;
+        ascending = up;
+        fireSortOrderChanged();
+        fireRowSorterChanged(previous);
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        if (active == null) {
+            return Collections.emptyList();
+        }
+        return List.of(new SortKey(active.column, ascending ? SortOrder.ASCENDING : SortOrder.DESCENDING));
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return model.getRowCount();
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        allRowsChanged();
+    }
+
+    @Override
+    public void allRowsChanged() {
+        int[] previous = viewToModel();
+        for (ColumnOrder order : orders.values()) {
+            order.invalidate();
+        }
+        if (active != null) {
+            active.ensureBuilt();
+            fireRowSorterChanged(previous);
+        }
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+        int[] previous = beforeChange(false);
+        for (ColumnOrder order : orders.values()) {
+            order.insert(firstRow, endRow);
+        }
+        afterChange(previous, active != null);
+    }
+
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+        int[] previous = beforeChange(false);
+        for (ColumnOrder order : orders.values()) {
+            order.delete(firstRow, endRow);
+        }
+        afterChange(previous, active != null);
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+        int[] previous = beforeChange(true);
+        for (ColumnOrder order : orders.values()) {
+            order.update(firstRow, endRow);
+        }
+        afterChange(previous, active != null);
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+        ColumnOrder order = orders.get(column);
+        if (order == null) {
+            return;
+        }
+        int[] previous = beforeChange(true);
+        order.update(firstRow, endRow);
+        afterChange(previous, order == active);
+    }
+
+    // The view-to-model mapping to report as previous for a change. In a batch it is taken once, at the first
+    // update: JTable re-reads the sorter after every insert and delete, and the model fires those before any
+    // update, so that is the order the table is still showing when the batch ends.
+    private int[] beforeChange(boolean update) {
+        if (!inBatch) {
+            return viewToModel();
+        }
+        if (update && !batchUpdated) {
+            batchPrevious = viewToModel();
+            batchUpdated = true;
+        }
+        batchChanged = true;
+        return null;
+    }
+
+    private void afterChange(int[] previous, boolean viewChanged) {
+        if (!inBatch && viewChanged) {
+            fireRowSorterChanged(previous);
+        }
+    }
+
+    private void endBatch() {
+        inBatch = false;
+        if (batchChanged && active != null) {
+            fireRowSorterChanged(batchUpdated ? batchPrevious : viewToModel());
+        }
+        batchChanged = false;
+        batchUpdated = false;
+        batchPrevious = null;
+    }
+
+    // Null when unsorted, as RowSorterEvent expects.
+    private int[] viewToModel() {
+        if (active == null) {
+            return null;
+        }
+        int[] mapping = new int[active.size];
+        for (int i = 0; i < mapping.length; i++) {
+            mapping[i] = convertRowIndexToModel(i);
+        }
+        return mapping;
+    }
+
+    // Model rows of one column in ascending (key, model row) order, with the keys cached by model row. Ties
+    // fall back to the model row so inserts and deletes, which shift model rows uniformly, keep the order valid.
+    private final class ColumnOrder {
+        private final int column;
+        private final ToLongFunction<T> numberKey;
+        private final Function<T, String> textKey;
+        private boolean built;
+        private int size;
+        private long[] numbers;
+        private String[] texts;
+        private int[] order;
+        private int[] rank;
+        private boolean rankValid;
+
+        ColumnOrder(int column, ToLongFunction<T> numberKey, Function<T, String> textKey) {
+            this.column = column;
+            this.numberKey = numberKey;
+            this.textKey = textKey;
+        }
+
+        void invalidate() {
+            built = false;
+            numbers = null;
+            texts = null;
+            order = null;
+            rank = null;
+        }
+
+        void ensureBuilt() {
+            if (built) {
+                return;
+            }
+            size = model.getRowCount();
+            int capacity = Math.max(16, size);
+            order = new int[capacity];
+            if (numberKey != null) {
+                numbers = new long[capacity];
+            } else {
+                texts = new String[capacity];
+            }
+            for (int row = 0; row < size; row++) {
+                loadKey(row);
+                order[row] = row;
+            }
+            mergeSort(order, size);
+            rankValid = false;
+            built = true;
+        }
+
+        int[] rank() {
+            if (!rankValid) {
+                if (rank == null || rank.length < order.length) {
+                    rank = new int[order.length];
+                }
+                for (int position = 0; position < size; position++) {
+                    rank[order[position]] = position;
+                }
+                rankValid = true;
+            }
+            return rank;
+        }
+
+        void insert(int firstRow, int endRow) {
+            if (!built) {
+                return;
+            }
+            int count = endRow - firstRow + 1;
+            ensureCapacity(size + count);
+            if (numbers != null) {
+                System.arraycopy(numbers, firstRow, numbers, endRow + 1, size - firstRow);
+            } else {
+                System.arraycopy(texts, firstRow, texts, endRow + 1, size - firstRow);
+            }
+            for (int position = 0; position < size; position++) {
+                if (order[position] >= firstRow) {
+                    order[position] += count;
+                }
+            }
+            int oldSize = size;
+            size += count;
+            for (int row = firstRow; row <= endRow; row++) {
+                loadKey(row);
+            }
+            int filled = oldSize;
+            for (int row = firstRow; row <= endRow; row++) {
+                filled = insertSorted(row, filled);
+            }
+            rankValid = false;
+        }
+
+        void delete(int firstRow, int endRow) {
+            if (!built) {
+                return;
+            }
+            int count = endRow - firstRow + 1;
+            int kept = 0;
+            for (int position = 0; position < size; position++) {
+                int row = order[position];
+                if (row < firstRow) {
+                    order[kept++] = row;
+                } else if (row > endRow) {
+                    order[kept++] = row - count;
+                }
+            }
+            if (numbers != null) {
+                System.arraycopy(numbers, endRow + 1, numbers, firstRow, size - endRow - 1);
+            } else {
+                System.arraycopy(texts, endRow + 1, texts, firstRow, size - endRow - 1);
+                Arrays.fill(texts, size - count, size, null);
+            }
+            size -= count;
+            rankValid = false;
+        }
+
+        void update(int firstRow, int endRow) {
+            if (!built) {
+                return;
+            }
+            int last = Math.min(endRow, size - 1);
+            if (last - firstRow + 1 > size / REBUILD_DIVISOR) {
+                invalidate();
+                ensureBuilt();
+                return;
+            }
+            int kept = 0;
+            for (int position = 0; position < size; position++) {
+                int row = order[position];
+                if (row < firstRow || row > last) {
+                    order[kept++] = row;
+                }
+            }
+            for (int row = firstRow; row <= last; row++) {
+                loadKey(row);
+                kept = insertSorted(row, kept);
+            }
+            rankValid = false;
+        }
+
+        // Inserts the model row into order[0, filled) by binary search; returns the new filled length.
+        private int insertSorted(int row, int filled) {
+            int low = 0;
+            int high = filled;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(order[mid], row) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            System.arraycopy(order, low, order, low + 1, filled - low);
+            order[low] = row;
+            return filled + 1;
+        }
+
+        private void loadKey(int row) {
+            T value = model.getRow(row);
+            if (numbers != null) {
+                numbers[row] = numberKey.applyAsLong(value);
+            } else {
+                texts[row] = TextFolding.fold(textKey.apply(value));
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (order.length >= capacity) {
+                return;
+            }
+            int grown = Math.max(capacity, order.length + (order.length >> 1));
+            order = Arrays.copyOf(order, grown);
+            if (numbers != null) {
+                numbers = Arrays.copyOf(numbers, grown);
+            } else {
+                texts = Arrays.copyOf(texts, grown);
+            }
+        }
+
+        private int compare(int a, int b) {
+            int byKey = numbers != null ? Long.compare(numbers[a], numbers[b]) : texts[a].compareTo(texts[b]);
+            return byKey != 0 ? byKey : Integer.compare(a, b);
+        }
+
+        // Bottom-up merge sort of rows[0, length) with compare(); no boxing.
+        private void mergeSort(int[] rows, int length) {
+            int[] buffer = new int[length];
+            int[] from = rows;
+            int[] to = buffer;
+            for (int width = 1; width < length; width <<= 1) {
+                for (int start = 0; start < length; start += width << 1) {
+                    int mid = Math.min(start + width, length);
+                    int end = Math.min(start + (width << 1), length);
+                    int left = start;
+                    int right = mid;
+                    for (int out = start; out < end; out++) {
+                        if (left < mid && (right >= end || compare(from[left], from[right]) <= 0)) {
+                            to[out] = from[left++];
+                        } else {
+                            to[out] = from[right++];
+                        }
+                    }
+                }
+                int[] swap = from;
+                from = to;
+                to = swap;
+            }
+            if (from != rows) {
+                System.arraycopy(from, 0, rows, 0, length);
+            }
+        }
+    }
+}
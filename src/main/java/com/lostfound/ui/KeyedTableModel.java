@@ -0,0 +1,299 @@
+package com.lostfound.ui;
+
+// Table model over rows keyed by an int ID. setRows() diffs the new rows against the current ones and fires
+// only the row inserts, deletes and updates that turn one into the other, so the table keeps its columns,
+// renderers, selection and scroll position and repaints just the rows that changed. Each setRows() or apply()
+// is one batch: it fires its deletes, then its inserts, then its updates, between BatchListener calls. Use on
+// the EDT.
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EventListener;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import javax.swing.table.AbstractTableModel;
+
+public class KeyedTableModel<T> extends AbstractTableModel {
+
+    @FunctionalInterface
+    public interface Column<T> {
+        Object valueOf(T row);
+    }
+
+    // Lets a listener that reacts to row events, such as IndexedRowSorter, do its per-change work once per batch.
+    public interface BatchListener extends EventListener {
+        void batchStarted();
+
+        void batchEnded();
+    }
+
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final List<Column<T>> columns;
+    private final ToIntFunction<T> keyOf;
+    private final List<T> rows = new ArrayList<>();
+    // Key to row index; rebuilt lazily after inserts and deletes shift the indexes.
+    private final Map<Integer, Integer> index = new HashMap<>();
+    private boolean indexValid = true;
+
+    public KeyedTableModel(String[] columnNames, Class<?>[] columnClasses, List<Column<T>> columns,
+                           ToIntFunction<T> keyOf) {
+        if (columnNames.length != columns.size() || columnClasses.length != columns.size()) {
+            throw new IllegalArgumentException("Column names, classes and accessors differ in length");
+        }
+        this.columnNames = columnNames.clone();
+        this.columnClasses = columnClasses.clone();
+        this.columns = List.copyOf(columns);
+        this.keyOf = keyOf;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return columns.get(column).valueOf(rows.get(row));
+    }
+
+    public T getRow(int row) {
+        return rows.get(row);
+    }
+
+    public int indexOfKey(int key) {
+        Integer row = index().get(key);
+        return row != null ? row : -1;
+    }
+
+    public void addBatchListener(BatchListener listener) {
+        listenerList.add(BatchListener.class, listener);
+    }
+
+    public void removeBatchListener(BatchListener listener) {
+        listenerList.remove(BatchListener.class, listener);
+    }
+
+    // Makes the table show newRows, in their order, with the fewest row events: rows whose key disappeared are
+    // deleted, rows out of order relative to the others are moved (deleted and reinserted), new keys are
+    // inserted and rows whose displayed values changed are updated.
+    public void setRows(List<? extends T> newRows) {
+        fireBatchStarted();
+        try {
+            diffRows(newRows);
+        } finally {
+            fireBatchEnded();
+        }
+    }
+
+    // Applies a delta: rows are updated in place or appended, and keys are removed.
+    public void apply(Collection<? extends T> upserts, Collection<Integer> deletedKeys) {
+        fireBatchStarted();
+        try {
+            applyDelta(upserts, deletedKeys);
+        } finally {
+            fireBatchEnded();
+        }
+    }
+
+    public void clear() {
+        setRows(List.of());
+    }
+
+    private void diffRows(List<? extends T> newRows) {
+        Map<Integer, Integer> newPositions = new HashMap<>(newRows.size() * 2);
+        for (int i = 0; i < newRows.size(); i++) {
+            newPositions.put(keyOf.applyAsInt(newRows.get(i)), i);
+        }
+
+        // Keep the longest run of current rows already in the new order; everything else goes.
+        int[] positions = new int[rows.size()];
+        for (int row = 0; row < rows.size(); row++) {
+            Integer position = newPositions.get(keyOf.applyAsInt(rows.get(row)));
+            positions[row] = position != null ? position : -1;
+        }
+        boolean[] keep = longestIncreasingRun(positions);
+        deleteRowsNotKept(keep);
+
+        // Rows before i are final, so update runs keep their indexes and are fired after all the inserts.
+        List<int[]> updatedRuns = new ArrayList<>();
+        int inserting = -1;
+        int updating = -1;
+        for (int i = 0; i < newRows.size(); i++) {
+            T newRow = newRows.get(i);
+            boolean present = i < rows.size() && keyOf.applyAsInt(rows.get(i)) == keyOf.applyAsInt(newRow);
+            if (present) {
+                inserting = flushInserts(inserting, i);
+                if (sameValues(rows.get(i), newRow)) {
+                    updating = endRun(updatedRuns, updating, i);
+                } else if (updating < 0) {
+                    updating = i;
+                }
+                rows.set(i, newRow);
+            } else {
+                updating = endRun(updatedRuns, updating, i);
+                rows.add(i, newRow);
+                indexValid = false;
+                if (inserting < 0) {
+                    inserting = i;
+                }
+            }
+        }
+        flushInserts(inserting, newRows.size());
+        endRun(updatedRuns, updating, newRows.size());
+        for (int[] run : updatedRuns) {
+            fireTableRowsUpdated(run[0], run[1]);
+        }
+    }
+
+    // Appends only add rows at the end, so updated indexes stay valid until they are fired after the inserts.
+    private void applyDelta(Collection<? extends T> upserts, Collection<Integer> deletedKeys) {
+        for (Integer key : deletedKeys) {
+            int row = indexOfKey(key);
+            if (row >= 0) {
+                rows.remove(row);
+                indexValid = false;
+                fireTableRowsDeleted(row, row);
+            }
+        }
+        List<Integer> updatedRows = new ArrayList<>();
+        for (T newRow : upserts) {
+            int row = indexOfKey(keyOf.applyAsInt(newRow));
+            if (row < 0) {
+                rows.add(newRow);
+                index.put(keyOf.applyAsInt(newRow), rows.size() - 1);
+                fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+            } else if (!sameValues(rows.get(row), newRow)) {
+                rows.set(row, newRow);
+                updatedRows.add(row);
+            } else {
+                rows.set(row, newRow);
+            }
+        }
+        for (int row : updatedRows) {
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    private void fireBatchStarted() {
+        for (BatchListener listener : listenerList.getListeners(BatchListener.class)) {
+            listener.batchStarted();
+        }
+    }
+
+    private void fireBatchEnded() {
+        for (BatchListener listener : listenerList.getListeners(BatchListener.class)) {
+            listener.batchEnded();
+        }
+    }
+
+    private Map<Integer, Integer> index() {
+        if (!indexValid) {
+            index.clear();
+            for (int row = 0; row < rows.size(); row++) {
+                index.put(keyOf.applyAsInt(rows.get(row)), row);
+            }
+            indexValid = true;
+        }
+        return index;
+    }
+
+    private boolean sameValues(T current, T candidate) {
+        for (Column<T> column : columns) {
+            if (!Objects.equals(column.valueOf(current), column.valueOf(candidate))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Deletes from the bottom up so each contiguous run is one event with still-valid indexes.
+    private void deleteRowsNotKept(boolean[] keep) {
+        int row = keep.length - 1;
+        while (row >= 0) {
+            if (keep[row]) {
+                row--;
+                continue;
+            }
+            int last = row;
+            while (row >= 0 && !keep[row]) {
+                row--;
+            }
+            rows.subList(row + 1, last + 1).clear();
+            indexValid = false;
+            fireTableRowsDeleted(row + 1, last);
+        }
+    }
+
+    private int flushInserts(int first, int end) {
+        if (first >= 0) {
+            fireTableRowsInserted(first, end - 1);
+        }
+        return -1;
+    }
+
+    private static int endRun(List<int[]> runs, int first, int end) {
+        if (first >= 0) {
+            runs.add(new int[]{first, end - 1});
+        }
+        return -1;
+    }
+
+    // Marks a longest strictly increasing subsequence of the non-negative positions (patience sorting,
+    // O(n log n)); -1 entries are never kept.
+    private static boolean[] longestIncreasingRun(int[] positions) {
+        int n = positions.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (positions[i] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[tails[mid]] < positions[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] keep = new boolean[n];
+        int i = length > 0 ? tails[length - 1] : -1;
+        while (i >= 0) {
+            keep[i] = true;
+            i = previous[i];
+        }
+        return keep;
+    }
+}
@@ -17,9 +17,6 @@ import java.util.logging.Level;
 
 public class ManageMyReportsUI extends JFrame {
     private ReportService reportService;
-    private ItemService itemService;
-    private LostItemService lostItemService;
-    private FoundItemService foundItemService;
     private UserService userService;
     private static final Logger LOGGER = Logger.getLogger(ManageMyReportsUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
@@ -43,9 +40,6 @@ public class ManageMyReportsUI extends JFrame {
         try {
             userService = new UserService();
             reportService = new ReportService();
-            itemService = new ItemService();
-            lostItemService = new LostItemService();
-            foundItemService = new FoundItemService();
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error initializing services", e);
             SwingUtilities.invokeLater(() -> {
@@ -336,53 +330,41 @@ public class ManageMyReportsUI extends JFrame {
             return;
         }
 
-        List<Report> reports = reportService.getCurrentUserReports();
-        if (reports == null || reports.isEmpty()) {
+        UserReportSummaries reports = reportService.getUserReportSummaries(currentUser.getUserId());
+        if (reports.isEmpty()) {
             LOGGER.log(Level.INFO, "No reports found for user: {0}", currentUser.getEmail());
             foundTableModel.addRow(new Object[]{0, 0, "No found reports", "", "", ""});
             lostTableModel.addRow(new Object[]{0, 0, "No lost reports", "", "", ""});
             return;
         }
 
-        for (Report report : reports) {
-            Item item = itemService.getItemById(report.getItemId());
-            if (item == null) {
-                LOGGER.log(Level.WARNING, "Item not found for report ID: {0}", report.getReportId());
-                continue;
+        for (ReportSummary report : reports.getFoundReports()) {
+            if (!report.hasDetails()) {
+                LOGGER.log(Level.WARNING, "FoundItem details missing for item ID: {0}", report.getItemId());
             }
-
-            String details = "";
-            if ("found".equalsIgnoreCase(report.getReportType())) {
-                FoundItem foundItem = foundItemService.getFoundItemDetails(item.getItemId());
-                details = foundItem != null ? "Location: " + foundItem.getFoundLocation() : "N/A";
-                if (foundItem == null) {
-                    LOGGER.log(Level.WARNING, "FoundItem details missing for item ID: {0}", item.getItemId());
-                }
-                Object[] row = {
-                        report.getReportId(),
-                        item.getItemId(),
-                        item.getName(),
-                        details,
-                        report.getReportDate(),
-                        "Delete"
-                };
-                foundTableModel.addRow(row);
-            } else if ("lost".equalsIgnoreCase(report.getReportType())) {
-                LostItem lostItem = lostItemService.getLostItemDetails(item.getItemId());
-                details = lostItem != null ? "Last seen: " + lostItem.getLastSeenLocation() : "N/A";
-                if (lostItem == null) {
-                    LOGGER.log(Level.WARNING, "LostItem details missing for item ID: {0}", item.getItemId());
-                }
-                Object[] row = {
-                        report.getReportId(),
-                        item.getItemId(),
-                        item.getName(),
-                        details,
-                        report.getReportDate(),
-                        "Delete"
-                };
-                lostTableModel.addRow(row);
+            Object[] row = {
+                    report.getReportId(),
+                    report.getItemId(),
+                    report.getItemName(),
+                    report.hasDetails() ? "Location: " + report.getLocation() : "N/A",
+                    report.getReportDate(),
+                    "Delete"
+            };
+            foundTableModel.addRow(row);
+        }
+        for (ReportSummary report : reports.getLostReports()) {
+            if (!report.hasDetails()) {
+                LOGGER.log(Level.WARNING, "LostItem details missing for item ID: {0}", report.getItemId());
             }
+            Object[] row = {
+                    report.getReportId(),
+                    report.getItemId(),
+                    report.getItemName(),
+                    report.hasDetails() ? "Last seen: " + report.getLocation() : "N/A",
+                    report.getReportDate(),
+                    "Delete"
+            };
+            lostTableModel.addRow(row);
         }
         LOGGER.log(Level.INFO, "Loaded {0} reports for user: {1}",
                 new Object[]{reports.size(), currentUser.getEmail()});
@@ -1,9 +1,12 @@
 package com.lostfound.ui;
 
 // UI for managing reports based on mode (manage, view, user).
-import com.lostfound.model.Item;
+import com.lostfound.dao.ChangeLog;
+import com.lostfound.model.ItemSummary;
+import com.lostfound.model.Page;
 import com.lostfound.model.Report;
 import com.lostfound.model.User;
+import com.lostfound.service.ChangeLogPoller;
 import com.lostfound.service.ItemService;
 import com.lostfound.service.ReportService;
 import com.lostfound.service.UserService;
@@ -14,17 +17,20 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.geom.RoundRectangle2D;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ManageReportsUI extends JFrame {
     private JTable reportTable;
-    private DefaultTableModel tableModel;
+    private PagedTableModel<ReportRow> tableModel;
     private ReportService reportService;
     private ItemService itemService;
     private UserService userService;
     private String mode;
+    private final ChangeLogPoller.Listener reportChanges = this::applyReportChanges;
     private static final Logger LOGGER = Logger.getLogger(ManageReportsUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
     private static final Color CARD_COLOR = new Color(44, 47, 51);
@@ -32,6 +38,8 @@ public class ManageReportsUI extends JFrame {
     private static final Color TEXT_COLOR = new Color(240, 240, 240);
     private static final Color SECONDARY_TEXT = new Color(180, 180, 180);
     private static final Color ERROR_COLOR = new Color(220, 53, 69);
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_PAGES = 10;
 
     public ManageReportsUI(String mode) throws SQLException {
         this.mode = mode;
@@ -124,14 +132,7 @@ public class ManageReportsUI extends JFrame {
 
         mainPanel.add(headerPanel, BorderLayout.NORTH);
 
-        tableModel = new DefaultTableModel(
-                new Object[]{"Report ID", "User ID", "Item Name", "Item Category", "Report Type", "Report Date"}, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-
+        tableModel = createTableModel(currentUser.getUserId());
         reportTable = new JTable(tableModel);
         styleTable(reportTable);
         reportTable.getAccessibleContext().setAccessibleName("Reports Table");
@@ -218,6 +219,16 @@ public class ManageReportsUI extends JFrame {
         mainPanel.add(buttonPanel, BorderLayout.SOUTH);
 
         loadReports();
+        ChangeLogPoller.shared().addListener(ChangeLog.REPORT, reportChanges);
+    }
+
+    @Override
+    public void dispose() {
+        ChangeLogPoller.shared().removeListener(ChangeLog.REPORT, reportChanges);
+        if (tableModel != null) {
+            tableModel.close();
+        }
+        super.dispose();
     }
 
     private String getTitleForMode() {
@@ -276,49 +287,88 @@ public class ManageReportsUI extends JFrame {
     }
 
     private void loadReports() {
-        try {
-            List<Report> reports;
-            if ("user".equals(mode)) {
-                User currentUser = userService.getCurrentUser();
-                if (currentUser == null) {
-                    SwingUtilities.invokeLater(() -> {
-                        showErrorDialog("No user logged in");
-                        navigateToFallback();
-                    });
-                    return;
-                }
-                int userId = currentUser.getUserId();
-                reports = reportService.getReportsByUserId(userId);
-            } else {
-                reports = reportService.getAllReports();
-            }
-            tableModel.setRowCount(0);
-
-            for (Report report : reports) {
-                Item item = itemService.getItemById(report.getItemId());
-                tableModel.addRow(new Object[]{
-                        report.getReportId(),
-                        report.getUserId(),
-                        item != null ? item.getName() : "N/A",
-                        item != null ? item.getCategory() : "N/A",
-                        report.getReportType(),
-                        report.getReportDate()
-                });
-            }
-            LOGGER.log(Level.INFO, "Loaded {0} reports in {1} mode",
-                    new Object[]{reports.size(), mode});
-        } catch (SQLException e) {
+        LOGGER.log(Level.INFO, "Loading reports in {0} mode", mode);
+        tableModel.refresh();
+    }
+
+    // Runs on the change log poller thread; the rows around the viewport and the count are read again.
+    private void applyReportChanges(Map<Integer, ChangeLog.Operation> changes) {
+        SwingUtilities.invokeLater(() -> {
+            LOGGER.log(Level.INFO, "Applying {0} report changes in {1} mode", new Object[]{changes.size(), mode});
+            tableModel.refresh();
+        });
+    }
+
+    // Reports newest first, paged in as the table scrolls; in user mode only the current user's.
+    private PagedTableModel<ReportRow> createTableModel(int userId) {
+        boolean ownReportsOnly = "user".equals(mode);
+        PagedTableModel<ReportRow> model = new PagedTableModel<>(
+                new String[]{"Report ID", "User ID", "Item Name", "Item Category", "Report Type", "Report Date"},
+                new Class<?>[]{Object.class, Object.class, Object.class, Object.class, Object.class, Object.class},
+                List.of(
+                        row -> row.report.getReportId(),
+                        row -> row.report.getUserId(),
+                        row -> row.item != null ? row.item.getName() : "N/A",
+                        row -> row.item != null ? row.item.getCategory() : "N/A",
+                        row -> row.report.getReportType(),
+                        row -> row.report.getReportDate()),
+                new PagedTableModel.PageSource<>() {
+                    @Override
+                    public int count() throws SQLException {
+                        return ownReportsOnly ? reportService.countReportsByUserId(userId) : reportService.countReports();
+                    }
+
+                    @Override
+                    public String tokenAt(int offset) throws SQLException {
+                        return ownReportsOnly
+                                ? reportService.getPageTokenAtByUserId(userId, offset)
+                                : reportService.getPageTokenAt(offset);
+                    }
+
+                    @Override
+                    public Page<ReportRow> fetch(String pageToken, int pageSize) throws SQLException {
+                        Page<Report> page = ownReportsOnly
+                                ? reportService.getReportsPageByUserId(userId, pageToken, pageSize)
+                                : reportService.getReportsPage(pageToken, pageSize);
+                        List<Integer> itemIds = new ArrayList<>(page.getItems().size());
+                        for (Report report : page.getItems()) {
+                            itemIds.add(report.getItemId());
+                        }
+                        Map<Integer, ItemSummary> items = itemService.getItemSummariesByIds(itemIds);
+                        List<ReportRow> rows = new ArrayList<>(page.getItems().size());
+                        for (Report report : page.getItems()) {
+                            rows.add(new ReportRow(report, items.get(report.getItemId())));
+                        }
+                        return new Page<>(rows, page.getNextToken(), page.getPreviousToken());
+                    }
+                }, PAGE_SIZE, MAX_PAGES);
+        model.setRefreshErrorHandler(e -> {
             LOGGER.log(Level.SEVERE, "Error loading reports in {0} mode", mode);
-            SwingUtilities.invokeLater(() ->
-                    showErrorDialog("Error loading reports: " + e.getMessage()));
+            showErrorDialog("Error loading reports: " + e.getMessage());
+        });
+        return model;
+    }
+
+    private static final class ReportRow {
+        private final Report report;
+        private final ItemSummary item;
+
+        ReportRow(Report report, ItemSummary item) {
+            this.report = report;
+            this.item = item;
         }
     }
 
     private void deleteSelectedReport() {
         int selectedRow = reportTable.getSelectedRow();
-        if (selectedRow >= 0) {
-            int reportId = (int) tableModel.getValueAt(selectedRow, 0);
-            String itemName = (String) tableModel.getValueAt(selectedRow, 2);
+        ReportRow selected = selectedRow >= 0 ? tableModel.getRow(selectedRow) : null;
+        if (selectedRow >= 0 && selected == null) {
+            LOGGER.log(Level.INFO, "Selected report row {0} is still loading", selectedRow);
+            return;
+        }
+        if (selected != null) {
+            int reportId = selected.report.getReportId();
+            String itemName = selected.item != null ? selected.item.getName() : "N/A";
             SwingUtilities.invokeLater(() -> {
                 int confirm = JOptionPane.showConfirmDialog(this,
                         "Are you sure you want to delete report for item: " + itemName + " (ID: " + reportId + ")?",
@@ -1,18 +1,23 @@
 package com.lostfound.ui;
 
 // UI for admin to manage users (delete, promote/demote admin).
+import com.lostfound.dao.ChangeLog;
 import com.lostfound.model.User;
 import com.lostfound.service.UserService;
 import com.lostfound.service.AdminService;
+import com.lostfound.service.ChangeLogPoller;
 import com.lostfound.model.Admin;
 import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +28,8 @@ public class ManageUsersUI extends JFrame {
     private JLabel statusLabel;
     private UserService userService;
     private AdminService adminService;
+    private final KeyedTableModel<UserRow> usersModel = createUsersModel();
+    private final ChangeLogPoller.Listener userChanges = this::applyUserChanges;
     private static final Logger LOGGER = Logger.getLogger(ManageUsersUI.class.getName());
     private static final Color BACKGROUND_DARK = new Color(32, 34, 37);
     private static final Color CARD_COLOR = new Color(44, 47, 51);
@@ -100,15 +107,20 @@ public class ManageUsersUI extends JFrame {
         userTable.getTableHeader().setForeground(TEXT_COLOR);
         userTable.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
 
-        String[] columnNames = {"ID", "Username", "Email", "Contact", "Role"};
-        DefaultTableModel emptyModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        emptyModel.addRow(new Object[]{"", "Loading users...", "", "", ""});
-        userTable.setModel(emptyModel);
+        userTable.setModel(usersModel);
+        userTable.setRowSorter(new IndexedRowSorter<>(usersModel)
+                .sortByNumber(0, row -> row.user.getUserId())
+                .sortByText(1, row -> row.user.getName()));
+        userTable.getColumnModel().getColumn(0).setPreferredWidth(50);
+        userTable.getColumnModel().getColumn(1).setPreferredWidth(150);
+        userTable.getColumnModel().getColumn(2).setPreferredWidth(200);
+        userTable.getColumnModel().getColumn(3).setPreferredWidth(150);
+        userTable.getColumnModel().getColumn(4).setPreferredWidth(100);
+        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
+        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
+        for (int i = 0; i < userTable.getColumnCount(); i++) {
+            userTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+        }
 
         scrollPane = new JScrollPane(userTable);
         scrollPane.setPreferredSize(new Dimension(700, 300));
@@ -183,8 +195,16 @@ public class ManageUsersUI extends JFrame {
         btnClose.addActionListener(e -> System.exit(0));
 
         refreshData();
+        ChangeLogPoller.shared().addListener(ChangeLog.USER, userChanges);
     }
 
+    @Override
+    public void dispose() {
+        ChangeLogPoller.shared().removeListener(ChangeLog.USER, userChanges);
+        super.dispose();
+    }
+
+    // Diffs the users into the existing model, so selection and scroll position survive a refresh.
     private void loadUserData() throws SQLException {
         LOGGER.log(Level.INFO, "Loading user data...");
         statusLabel.setText("Loading users...");
@@ -200,73 +220,82 @@ public class ManageUsersUI extends JFrame {
             LOGGER.log(Level.SEVERE, "Error fetching data: {0}", ex.getMessage());
             statusLabel.setText("Failed to load users: " + ex.getMessage());
             statusLabel.setForeground(Color.RED);
-            DefaultTableModel errorModel = new DefaultTableModel(new String[]{"ID", "Username", "Email", "Contact", "Role"}, 0) {
-                @Override
-                public boolean isCellEditable(int row, int column) {
-                    return false;
-                }
-            };
-            errorModel.addRow(new Object[]{"", "Error: " + ex.getMessage(), "", "", ""});
-            userTable.setModel(errorModel);
-            updateTableUI();
+            usersModel.clear();
             throw ex;
         }
 
-        String[] columnNames = {"ID", "Username", "Email", "Contact", "Role"};
-        DefaultTableModel model = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-
-        if (users == null || users.isEmpty()) {
+        Set<Integer> adminUserIds = adminUserIds(admins);
+        List<UserRow> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            rows.add(new UserRow(user, adminUserIds.contains(user.getUserId())));
+        }
+        usersModel.setRows(rows);
+        if (rows.isEmpty()) {
             LOGGER.log(Level.WARNING, "No users found");
-            model.addRow(new Object[]{"", "No users found", "", "", ""});
             statusLabel.setText("No users found in the database.");
             statusLabel.setForeground(Color.YELLOW);
         } else {
-            for (User user : users) {
-                String name = user.getName() != null ? user.getName() : "";
-                String email = user.getEmail() != null ? user.getEmail() : "";
-                String contact = user.getContact() != null ? user.getContact() : "";
-                String role = user.getRole() != null ? user.getRole() : "user";
-                boolean isAdmin = admins != null && admins.stream().anyMatch(admin -> admin.getUserId() == user.getUserId());
-                model.addRow(new Object[]{user.getUserId(), name, email, contact, isAdmin ? "admin" : role});
-            }
             statusLabel.setText("Loaded " + users.size() + " users.");
             statusLabel.setForeground(PRIMARY_COLOR);
         }
+        LOGGER.log(Level.INFO, "Table model updated with {0} rows", usersModel.getRowCount());
+    }
 
-        userTable.setModel(model);
-        LOGGER.log(Level.INFO, "Table model set with {0} rows", model.getRowCount());
-
-        userTable.getColumnModel().getColumn(0).setPreferredWidth(50);
-        userTable.getColumnModel().getColumn(1).setPreferredWidth(150);
-        userTable.getColumnModel().getColumn(2).setPreferredWidth(200);
-        userTable.getColumnModel().getColumn(3).setPreferredWidth(150);
-        userTable.getColumnModel().getColumn(4).setPreferredWidth(100);
+    // Runs on the change log poller thread, which has already dropped the changed users from the user cache.
+    private void applyUserChanges(Map<Integer, ChangeLog.Operation> changes) {
+        List<UserRow> upserts = new ArrayList<>();
+        List<Integer> deleted = new ArrayList<>();
+        try {
+            Set<Integer> adminUserIds = adminUserIds(adminService.getAllAdmins());
+            for (Integer userId : changes.keySet()) {
+                User user = userService.getUserById(userId);
+                if (user != null) {
+                    upserts.add(new UserRow(user, adminUserIds.contains(userId)));
+                } else {
+                    deleted.add(userId);
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Error fetching changed users: {0}", e.getMessage());
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            usersModel.apply(upserts, deleted);
+            LOGGER.log(Level.INFO, "Applied {0} user changes", changes.size());
+        });
+    }
 
-        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
-        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
-        for (int i = 0; i < userTable.getColumnCount(); i++) {
-            userTable.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+    private static Set<Integer> adminUserIds(List<Admin> admins) {
+        Set<Integer> ids = new HashSet<>();
+        if (admins != null) {
+            for (Admin admin : admins) {
+                ids.add(admin.getUserId());
+            }
         }
+        return ids;
+    }
 
-        updateTableUI();
+    private static KeyedTableModel<UserRow> createUsersModel() {
+        return new KeyedTableModel<>(
+                new String[]{"ID", "Username", "Email", "Contact", "Role"},
+                new Class<?>[]{Integer.class, String.class, String.class, String.class, String.class},
+                List.of(
+                        row -> row.user.getUserId(),
+                        row -> row.user.getName() != null ? row.user.getName() : "",
+                        row -> row.user.getEmail() != null ? row.user.getEmail() : "",
+                        row -> row.user.getContact() != null ? row.user.getContact() : "",
+                        row -> row.admin ? "admin" : (row.user.getRole() != null ? row.user.getRole() : "user")),
+                row -> row.user.getUserId());
     }
 
-    private void updateTableUI() {
-        SwingUtilities.invokeLater(() -> {
-            userTable.revalidate();
-            userTable.repaint();
-            scrollPane.revalidate();
-            scrollPane.repaint();
-            mainPanel.revalidate();
-            mainPanel.repaint();
-            LOGGER.log(Level.INFO, "Table UI updated, visible: {0}, rows: {1}, table size: {2}, scrollPane size: {3}",
-                    new Object[]{userTable.isVisible(), userTable.getRowCount(), userTable.getSize(), scrollPane.getSize()});
-        });
+    private static final class UserRow {
+        private final User user;
+        private final boolean admin;
+
+        UserRow(User user, boolean admin) {
+            this.user = user;
+            this.admin = admin;
+        }
     }
 
     private JButton createStyledButton(String text, Color baseColor) {
@@ -341,7 +370,7 @@ public class ManageUsersUI extends JFrame {
 
         int userId = Integer.parseInt(idValue.toString());
         String email = (String) userTable.getValueAt(selectedRow, 2);
-        if (isUserAdmin(userId)) {
+        if (isUserAdmin(selectedRow)) {
             JOptionPane.showMessageDialog(this, "User is already an admin.", "Info", JOptionPane.INFORMATION_MESSAGE);
             LOGGER.log(Level.INFO, "User already admin: {0}", email);
             return;
@@ -349,15 +378,10 @@ public class ManageUsersUI extends JFrame {
 
         int confirm = JOptionPane.showConfirmDialog(this, "Promote " + email + " to admin?", "Confirm Promotion", JOptionPane.YES_NO_OPTION);
         if (confirm == JOptionPane.YES_OPTION) {
-            Admin admin = new Admin(0, userId, "Moderator");
-            if (adminService.addAdmin(admin)) {
-                userService.updateUserRole(userId, "admin");
-                refreshData();
-                JOptionPane.showMessageDialog(this, "User promoted to admin.", "Success", JOptionPane.INFORMATION_MESSAGE);
-                LOGGER.log(Level.INFO, "Promoted user ID: {0}, Email: {1}", new Object[]{userId, email});
-            } else {
-                throw new SQLException("Failed to add admin record");
-            }
+            userService.updateUserRole(userId, "admin");
+            refreshData();
+            JOptionPane.showMessageDialog(this, "User promoted to admin.", "Success", JOptionPane.INFORMATION_MESSAGE);
+            LOGGER.log(Level.INFO, "Promoted user ID: {0}, Email: {1}", new Object[]{userId, email});
         }
     }
 
@@ -385,7 +409,7 @@ public class ManageUsersUI extends JFrame {
             return;
         }
 
-        if (!isUserAdmin(userId)) {
+        if (!isUserAdmin(selectedRow)) {
             JOptionPane.showMessageDialog(this, "User is not an admin.", "Info", JOptionPane.INFORMATION_MESSAGE);
             LOGGER.log(Level.INFO, "User not admin: {0}", email);
             return;
@@ -393,22 +417,16 @@ public class ManageUsersUI extends JFrame {
 
         int confirm = JOptionPane.showConfirmDialog(this, "Demote " + email + " from admin?", "Confirm Demotion", JOptionPane.YES_NO_OPTION);
         if (confirm == JOptionPane.YES_OPTION) {
-            List<Admin> admins = adminService.getAllAdmins();
-            Admin adminToDelete = admins.stream().filter(admin -> admin.getUserId() == userId).findFirst().orElse(null);
-            if (adminToDelete != null && adminService.deleteAdmin(adminToDelete.getAdminId())) {
-                userService.updateUserRole(userId, "user");
-                refreshData();
-                JOptionPane.showMessageDialog(this, "User demoted successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
-                LOGGER.log(Level.INFO, "Demoted user ID: {0}, Email: {1}", new Object[]{userId, email});
-            } else {
-                throw new SQLException("Failed to delete admin record");
-            }
+            userService.updateUserRole(userId, "user");
+            refreshData();
+            JOptionPane.showMessageDialog(this, "User demoted successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
+            LOGGER.log(Level.INFO, "Demoted user ID: {0}, Email: {1}", new Object[]{userId, email});
         }
     }
 
-    private boolean isUserAdmin(int userId) throws SQLException {
-        List<Admin> admins = adminService.getAllAdmins();
-        return admins != null && admins.stream().anyMatch(admin -> admin.getUserId() == userId);
+    // The Role column already reflects the admin table as of the last refresh.
+    private boolean isUserAdmin(int selectedRow) {
+        return "admin".equalsIgnoreCase(String.valueOf(userTable.getValueAt(selectedRow, 4)));
     }
 
     private void refreshData() {
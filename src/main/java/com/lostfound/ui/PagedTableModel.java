@@ -0,0 +1,257 @@
+package com.lostfound.ui;
+
+// Table model that knows the total row count but holds only a window of pages around the rows being painted.
+// A page not in memory reads as empty cells and is fetched on a background thread, along with the page after
+// it; pages far from the viewport are evicted, so memory stays bounded however large the table is. Jumps
+// (e.g. dragging the scrollbar) start from a token located by offset; sequential pages follow next tokens.
+// Except for the loader, use on the EDT.
+import com.lostfound.model.Page;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+public class PagedTableModel<T> extends AbstractTableModel implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PagedTableModel.class.getName());
+
+    public interface PageSource<T> {
+        int count() throws SQLException;
+
+        // Token of the page starting at the given row, or null for the first row.
+        String tokenAt(int offset) throws SQLException;
+
+        Page<T> fetch(String pageToken, int pageSize) throws SQLException;
+    }
+
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final List<KeyedTableModel.Column<T>> columns;
+    private final PageSource<T> source;
+    private final int pageSize;
+    private final int maxPages;
+    private final ExecutorService loader;
+    private Consumer<SQLException> refreshErrorHandler = e -> { };
+
+    // EDT state.
+    private int rowCount;
+    private final Map<Integer, LoadedPage<T>> pages = new HashMap<>();
+    private final Set<Integer> requested = new HashSet<>();
+    private int generation;
+
+    // Shared with the loader: pages still wanted, newest request last, and the start token of each page.
+    private final Deque<Integer> queue = new ArrayDeque<>();
+    private final Map<Integer, String> startTokens = new ConcurrentHashMap<>();
+    private volatile int focusPage;
+    private volatile int loaderGeneration;
+
+    public PagedTableModel(String[] columnNames, Class<?>[] columnClasses, List<KeyedTableModel.Column<T>> columns,
+                           PageSource<T> source, int pageSize, int maxPages) {
+        this.columnNames = columnNames.clone();
+        this.columnClasses = columnClasses.clone();
+        this.columns = List.copyOf(columns);
+        this.source = source;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxPages = Math.max(3, maxPages);
+        this.loader = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "table-page-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        T value = getRow(row);
+        return value != null ? columns.get(column).valueOf(value) : null;
+    }
+
+    // Returns null while the row's page is loading.
+    public T getRow(int row) {
+        int pageIndex = row / pageSize;
+        focusPage = pageIndex;
+        LoadedPage<T> page = pages.get(pageIndex);
+        if (page == null || page.generation != generation) {
+            request(pageIndex);
+        }
+        if (!pages.containsKey(pageIndex + 1)) {
+            request(pageIndex + 1);
+        }
+        if (page == null) {
+            return null;
+        }
+        int offset = row - pageIndex * pageSize;
+        return offset < page.rows.size() ? page.rows.get(offset) : null;
+    }
+
+    // Re-reads the row count and every page in memory, e.g. after a write. Pages keep showing their old rows
+    // until the new ones arrive, so the table does not blank out.
+    public void refresh() {
+        generation++;
+        int refreshGeneration = generation;
+        loaderGeneration = refreshGeneration;
+        startTokens.clear();
+        requested.clear();
+        synchronized (queue) {
+            queue.clear();
+        }
+        loader.execute(() -> {
+            try {
+                int count = source.count();
+                SwingUtilities.invokeLater(() -> applyCount(refreshGeneration, count));
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Error counting table rows: {0}", e.getMessage());
+                SwingUtilities.invokeLater(() -> {
+                    if (refreshGeneration == generation) {
+                        refreshErrorHandler.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    // Called on the EDT when refresh() cannot read the row count; page load failures are only logged and the
+    // page is retried when it is next painted.
+    public void setRefreshErrorHandler(Consumer<SQLException> handler) {
+        this.refreshErrorHandler = handler;
+    }
+
+    @Override
+    public void close() {
+        loader.shutdownNow();
+    }
+
+    private void applyCount(int refreshGeneration, int count) {
+        if (refreshGeneration != generation) {
+            return;
+        }
+        int previous = rowCount;
+        rowCount = count;
+        if (count > previous) {
+            fireTableRowsInserted(previous, count - 1);
+        } else if (count < previous) {
+            fireTableRowsDeleted(count, previous - 1);
+        } else if (count == 0) {
+            // Still empty; tells listeners the count is known.
+            fireTableDataChanged();
+        }
+        pages.keySet().removeIf(pageIndex -> pageIndex * pageSize >= count);
+        if (count > 0 && !pages.isEmpty()) {
+            // Repaints the rows still showing old data; their pages reload as they are painted.
+            fireTableRowsUpdated(0, count - 1);
+        }
+    }
+
+    private void request(int pageIndex) {
+        if (pageIndex * pageSize >= rowCount || !requested.add(pageIndex)) {
+            return;
+        }
+        synchronized (queue) {
+            queue.addLast(pageIndex);
+        }
+        loader.execute(this::loadNext);
+    }
+
+    // Loads the most recently requested page that is still near the viewport; stale requests left behind by
+    // fast scrolling are dropped here without a query.
+    private void loadNext() {
+        Integer pageIndex;
+        synchronized (queue) {
+            pageIndex = queue.pollLast();
+        }
+        if (pageIndex == null) {
+            return;
+        }
+        int loadGeneration = loaderGeneration;
+        if (Math.abs(pageIndex - focusPage) > maxPages / 2) {
+            SwingUtilities.invokeLater(() -> requested.remove(pageIndex));
+            return;
+        }
+        try {
+            String token = pageIndex == 0 ? null : startTokens.get(pageIndex);
+            if (pageIndex > 0 && token == null) {
+                token = source.tokenAt(pageIndex * pageSize);
+            }
+            Page<T> page = source.fetch(token, pageSize);
+            if (page.getNextToken() != null && loadGeneration == loaderGeneration) {
+                startTokens.put(pageIndex + 1, page.getNextToken());
+            }
+            SwingUtilities.invokeLater(() -> store(loadGeneration, pageIndex, page.getItems()));
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Error loading table page {0}: {1}", new Object[]{pageIndex, e.getMessage()});
+            SwingUtilities.invokeLater(() -> requested.remove(pageIndex));
+        }
+    }
+
+    private void store(int loadGeneration, int pageIndex, List<T> rows) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        requested.remove(pageIndex);
+        pages.put(pageIndex, new LoadedPage<>(rows, loadGeneration));
+        evictDistantPages();
+        int first = pageIndex * pageSize;
+        int last = Math.min(first + pageSize, rowCount) - 1;
+        if (first <= last) {
+            fireTableRowsUpdated(first, last);
+        }
+    }
+
+    private void evictDistantPages() {
+        while (pages.size() > maxPages) {
+            int farthest = -1;
+            for (int pageIndex : pages.keySet()) {
+                if (farthest < 0 || Math.abs(pageIndex - focusPage) > Math.abs(farthest - focusPage)) {
+                    farthest = pageIndex;
+                }
+            }
+            pages.remove(farthest);
+        }
+    }
+
+    private static final class LoadedPage<T> {
+        private final List<T> rows;
+        private final int generation;
+
+        LoadedPage(List<T> rows, int generation) {
+            this.rows = rows;
+            this.generation = generation;
+        }
+    }
+}
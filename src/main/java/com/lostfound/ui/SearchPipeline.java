@@ -0,0 +1,114 @@
+package com.lostfound.ui;
+
+// Debounces search input and runs each query off the EDT; a newer query cancels the one in flight and only the newest result is applied.
+import com.lostfound.service.QueryCancellation;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+public class SearchPipeline<R> implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SearchPipeline.class.getName());
+
+    @FunctionalInterface
+    public interface Search<R> {
+        R run(String query, QueryCancellation cancellation) throws SQLException;
+    }
+
+    private final Search<R> search;
+    private final BiConsumer<String, R> onResult;
+    private final Consumer<SQLException> onError;
+    private final Timer debounce;
+    private final ExecutorService executor;
+    private final AtomicLong generation = new AtomicLong();
+    // Touched only on the EDT.
+    private String pendingQuery;
+    private String currentQuery;
+    private QueryCancellation inFlight;
+    private Future<?> inFlightTask;
+
+    // onResult and onError are called on the EDT, and only for the most recently submitted query.
+    public SearchPipeline(int debounceMs, Search<R> search, BiConsumer<String, R> onResult,
+                          Consumer<SQLException> onError) {
+        this.search = search;
+        this.onResult = onResult;
+        this.onError = onError;
+        debounce = new Timer(debounceMs, e -> {
+            if (!pendingQuery.equals(currentQuery)) {
+                submitNow(pendingQuery);
+            }
+        });
+        debounce.setRepeats(false);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "search-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Call on every edit; the query runs once input has been quiet for the debounce delay.
+    public void submit(String query) {
+        pendingQuery = query.trim();
+        debounce.restart();
+    }
+
+    // Runs the query right away, e.g. for Enter or the Search button.
+    public void submitNow(String query) {
+        debounce.stop();
+        String trimmed = query.trim();
+        long ticket = generation.incrementAndGet();
+        cancelInFlight();
+        currentQuery = trimmed;
+        QueryCancellation cancellation = new QueryCancellation();
+        inFlight = cancellation;
+        inFlightTask = executor.submit(() -> {
+            if (ticket != generation.get()) {
+                return;
+            }
+            try {
+                R result = search.run(trimmed, cancellation);
+                SwingUtilities.invokeLater(() -> {
+                    if (ticket == generation.get()) {
+                        onResult.accept(trimmed, result);
+                    }
+                });
+            } catch (SQLException e) {
+                if (cancellation.isCancelled() || ticket != generation.get()) {
+                    LOGGER.log(Level.FINE, "Search for \"{0}\" superseded", trimmed);
+                    return;
+                }
+                SwingUtilities.invokeLater(() -> {
+                    if (ticket == generation.get()) {
+                        onError.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    // Flags the running search so it gives up and its result is dropped; a query still queued behind it is
+    // dropped before it starts.
+    private void cancelInFlight() {
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlightTask.cancel(false);
+            inFlight = null;
+            inFlightTask = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        debounce.stop();
+        generation.incrementAndGet();
+        cancelInFlight();
+        executor.shutdown();
+    }
+}